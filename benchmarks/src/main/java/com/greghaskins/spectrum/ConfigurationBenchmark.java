@@ -0,0 +1,50 @@
+package com.greghaskins.spectrum;
+
+import static com.greghaskins.spectrum.Configure.tags;
+import static com.greghaskins.spectrum.Configure.timeout;
+import static com.greghaskins.spectrum.Configure.with;
+
+import com.greghaskins.spectrum.internal.configuration.BlockConfiguration;
+import com.greghaskins.spectrum.internal.configuration.ConfiguredBlock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuring a block with tags and a timeout, and merging that configuration with what a
+ * suite passes down to its children, as happens for every configured spec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ConfigurationBenchmark {
+  private final BlockConfiguration fromParent = ConfiguredBlock.configurationFromBlock(
+      with(tags("parent"), SpecTrees.NOTHING)).forChild();
+
+  private final Block configured =
+      with(tags("fast", "unit").and(timeout(Duration.ofSeconds(1))), SpecTrees.NOTHING);
+
+  @Benchmark
+  public Block configure() {
+    return with(tags("fast", "unit").and(timeout(Duration.ofSeconds(1))), SpecTrees.NOTHING);
+  }
+
+  @Benchmark
+  public BlockConfiguration merge() {
+    return BlockConfiguration.merge(this.fromParent,
+        ConfiguredBlock.configurationFromBlock(this.configured));
+  }
+}
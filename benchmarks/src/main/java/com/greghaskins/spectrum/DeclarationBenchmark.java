@@ -0,0 +1,45 @@
+package com.greghaskins.spectrum;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Declaring {@code specs} specs nested {@code depth} suites deep through {@code describe} and
+ * {@code it}, up to the point where the runner is ready to run them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class DeclarationBenchmark {
+  @Param({"100", "1000"})
+  private int specs;
+
+  @Param({"1", "6"})
+  private int depth;
+
+  private Block tree;
+
+  @Setup
+  public void declareTree() {
+    this.tree = SpecTrees.nested(this.depth, this.specs, 0);
+  }
+
+  @Benchmark
+  public Spectrum declare() {
+    return SpecTrees.declare(this.tree);
+  }
+}
@@ -0,0 +1,50 @@
+package com.greghaskins.spectrum;
+
+import org.junit.runner.notification.RunNotifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running empty specs nested {@code depth} suites deep, where every suite has
+ * {@code hooksPerLevel} {@code beforeEach} and {@code aroundEach} hooks. The time is per spec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class HookExecutionBenchmark {
+  private static final int SPECS = 100;
+
+  @Param({"0", "5"})
+  private int hooksPerLevel;
+
+  @Param({"1", "6"})
+  private int depth;
+
+  private Spectrum runner;
+
+  @Setup
+  public void declareTree() {
+    this.runner = SpecTrees.declare(SpecTrees.nested(this.depth, SPECS, this.hooksPerLevel));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SPECS)
+  public void run() {
+    this.runner.run(new RunNotifier());
+  }
+}
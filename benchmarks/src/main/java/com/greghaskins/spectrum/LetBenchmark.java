@@ -0,0 +1,50 @@
+package com.greghaskins.spectrum;
+
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
+import com.greghaskins.spectrum.internal.hooks.LetHook;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetching the value of a {@code let}, both the first time in a spec, when the value is
+ * supplied, and afterwards, when it is already cached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class LetBenchmark {
+  private static final int LOOKUPS = 100;
+
+  private final LetHook<Object> let = new LetHook<>(Object::new);
+
+  @Benchmark
+  public void miss(final Blackhole blackhole) {
+    ExecutionContext.runInNewContext(() -> blackhole.consume(this.let.get()));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void hit(final Blackhole blackhole) {
+    ExecutionContext.runInNewContext(() -> {
+      this.let.get();
+      for (int lookup = 0; lookup < LOOKUPS; lookup++) {
+        blackhole.consume(this.let.get());
+      }
+    });
+  }
+}
@@ -0,0 +1,61 @@
+package com.greghaskins.spectrum;
+
+import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of reporting through {@link RunNotifierReporting} to a JUnit notifier with one
+ * listener, from one thread and from several at once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ReportingBenchmark {
+  private final Description description =
+      Description.createTestDescription("benchmark", "reported spec");
+  private final AssertionError error = new AssertionError("reported failure");
+  private final RunNotifierReporting reporting = new RunNotifierReporting(notifier());
+
+  @Benchmark
+  public void startedAndFinished() {
+    this.reporting.fireTestStarted(this.description);
+    this.reporting.fireTestFinished(this.description);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void startedAndFinishedFromFourThreads() {
+    startedAndFinished();
+  }
+
+  @Benchmark
+  public void failureAlreadyReported() {
+    this.reporting.fireTestFailure(new Failure(this.description, this.error));
+  }
+
+  private static RunNotifier notifier() {
+    final RunNotifier notifier = new RunNotifier();
+    notifier.addListener(new RunListener());
+
+    return notifier;
+  }
+}
@@ -0,0 +1,52 @@
+package com.greghaskins.spectrum;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.aroundEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+
+import org.junit.runner.Description;
+
+import java.util.stream.IntStream;
+
+/**
+ * Declares the trees of specs that the benchmarks work with.
+ */
+final class SpecTrees {
+  static final Block NOTHING = () -> {
+  };
+
+  private SpecTrees() {}
+
+  /**
+   * A tree of suites nested {@code depth} deep, with all the specs in the innermost suite.
+   * @param depth how many suites deep the specs are
+   * @param specs how many specs there are
+   * @param hooksPerLevel how many {@code beforeEach} and {@code aroundEach} hooks each suite has
+   * @return the block declaring the tree
+   */
+  static Block nested(final int depth, final int specs, final int hooksPerLevel) {
+    if (depth == 0) {
+      return () -> IntStream.range(0, specs).forEach(spec -> it("spec " + spec, NOTHING));
+    }
+
+    final Block inner = nested(depth - 1, specs, hooksPerLevel);
+
+    return () -> describe("suite at depth " + depth, () -> {
+      IntStream.range(0, hooksPerLevel).forEach(hook -> {
+        beforeEach(NOTHING);
+        aroundEach(Block::run);
+      });
+      inner.run();
+    });
+  }
+
+  /**
+   * Declare a tree, as the Spectrum runner does for a test class.
+   * @param block declares the tree
+   * @return the runner, ready to run
+   */
+  static Spectrum declare(final Block block) {
+    return new Spectrum(Description.createSuiteDescription("benchmark"), block);
+  }
+}
@@ -0,0 +1,57 @@
+package com.greghaskins.spectrum;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A thread-safe {@link BooleanVariable}, for when code running on several threads updates the value
+ * at once. Every operation is atomic and lock-free.
+ */
+public final class AtomicBooleanVariable implements BooleanSupplier {
+
+  private final AtomicBoolean value = new AtomicBoolean();
+
+  /**
+   * Create an AtomicBooleanVariable with an initial value of {@code false}.
+   */
+  public AtomicBooleanVariable() {}
+
+  /**
+   * Create an AtomicBooleanVariable with the given initial value.
+   *
+   * @param value starting value
+   */
+  public AtomicBooleanVariable(final boolean value) {
+    set(value);
+  }
+
+  /**
+   * Get the current value of this AtomicBooleanVariable.
+   *
+   * @return current value
+   */
+  @Override
+  public boolean getAsBoolean() {
+    return this.value.get();
+  }
+
+  /**
+   * Change the value of this AtomicBooleanVariable.
+   *
+   * @param value new value
+   */
+  public void set(final boolean value) {
+    this.value.set(value);
+  }
+
+  /**
+   * Atomically change the value of this AtomicBooleanVariable, if it is still the expected value.
+   *
+   * @param expected the value it must still have
+   * @param value new value
+   * @return whether the value was changed
+   */
+  public boolean compareAndSet(final boolean expected, final boolean value) {
+    return this.value.compareAndSet(expected, value);
+  }
+}
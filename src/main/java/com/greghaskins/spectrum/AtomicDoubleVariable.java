@@ -0,0 +1,75 @@
+package com.greghaskins.spectrum;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A thread-safe {@link DoubleVariable}, for when code running on several threads updates the value
+ * at once. Every operation is atomic and lock-free.
+ */
+public final class AtomicDoubleVariable implements DoubleSupplier {
+
+  private final AtomicLong bits = new AtomicLong();
+
+  /**
+   * Create an AtomicDoubleVariable with an initial value of {@code 0}.
+   */
+  public AtomicDoubleVariable() {}
+
+  /**
+   * Create an AtomicDoubleVariable with the given initial value.
+   *
+   * @param value starting value
+   */
+  public AtomicDoubleVariable(final double value) {
+    set(value);
+  }
+
+  /**
+   * Get the current value of this AtomicDoubleVariable.
+   *
+   * @return current value
+   */
+  @Override
+  public double getAsDouble() {
+    return Double.longBitsToDouble(this.bits.get());
+  }
+
+  /**
+   * Change the value of this AtomicDoubleVariable.
+   *
+   * @param value new value
+   */
+  public void set(final double value) {
+    this.bits.set(Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * Atomically add to the value of this AtomicDoubleVariable.
+   *
+   * @param delta amount to add
+   * @return the new value
+   */
+  public double add(final double delta) {
+    while (true) {
+      final long currentBits = this.bits.get();
+      final double updated = Double.longBitsToDouble(currentBits) + delta;
+      if (this.bits.compareAndSet(currentBits, Double.doubleToRawLongBits(updated))) {
+        return updated;
+      }
+    }
+  }
+
+  /**
+   * Atomically change the value of this AtomicDoubleVariable, if it is still the expected
+   * value. Values are compared by their bits, so {@code 0.0} and {@code -0.0} are different.
+   *
+   * @param expected the value it must still have
+   * @param value new value
+   * @return whether the value was changed
+   */
+  public boolean compareAndSet(final double expected, final double value) {
+    return this.bits.compareAndSet(Double.doubleToRawLongBits(expected),
+        Double.doubleToRawLongBits(value));
+  }
+}
@@ -0,0 +1,76 @@
+package com.greghaskins.spectrum;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * A thread-safe {@link IntVariable}, for when code running on several threads updates the value
+ * at once. Every operation is atomic and lock-free.
+ */
+public final class AtomicIntVariable implements IntSupplier {
+
+  private final AtomicInteger value = new AtomicInteger();
+
+  /**
+   * Create an AtomicIntVariable with an initial value of {@code 0}.
+   */
+  public AtomicIntVariable() {}
+
+  /**
+   * Create an AtomicIntVariable with the given initial value.
+   *
+   * @param value starting value
+   */
+  public AtomicIntVariable(final int value) {
+    set(value);
+  }
+
+  /**
+   * Get the current value of this AtomicIntVariable.
+   *
+   * @return current value
+   */
+  @Override
+  public int getAsInt() {
+    return this.value.get();
+  }
+
+  /**
+   * Change the value of this AtomicIntVariable.
+   *
+   * @param value new value
+   */
+  public void set(final int value) {
+    this.value.set(value);
+  }
+
+  /**
+   * Atomically add to the value of this AtomicIntVariable.
+   *
+   * @param delta amount to add
+   * @return the new value
+   */
+  public int add(final int delta) {
+    return this.value.addAndGet(delta);
+  }
+
+  /**
+   * Atomically add one to the value of this AtomicIntVariable.
+   *
+   * @return the new value
+   */
+  public int increment() {
+    return this.value.incrementAndGet();
+  }
+
+  /**
+   * Atomically change the value of this AtomicIntVariable, if it is still the expected value.
+   *
+   * @param expected the value it must still have
+   * @param value new value
+   * @return whether the value was changed
+   */
+  public boolean compareAndSet(final int expected, final int value) {
+    return this.value.compareAndSet(expected, value);
+  }
+}
@@ -0,0 +1,76 @@
+package com.greghaskins.spectrum;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread-safe {@link LongVariable}, for when code running on several threads updates the value
+ * at once. Every operation is atomic and lock-free.
+ */
+public final class AtomicLongVariable implements LongSupplier {
+
+  private final AtomicLong value = new AtomicLong();
+
+  /**
+   * Create an AtomicLongVariable with an initial value of {@code 0}.
+   */
+  public AtomicLongVariable() {}
+
+  /**
+   * Create an AtomicLongVariable with the given initial value.
+   *
+   * @param value starting value
+   */
+  public AtomicLongVariable(final long value) {
+    set(value);
+  }
+
+  /**
+   * Get the current value of this AtomicLongVariable.
+   *
+   * @return current value
+   */
+  @Override
+  public long getAsLong() {
+    return this.value.get();
+  }
+
+  /**
+   * Change the value of this AtomicLongVariable.
+   *
+   * @param value new value
+   */
+  public void set(final long value) {
+    this.value.set(value);
+  }
+
+  /**
+   * Atomically add to the value of this AtomicLongVariable.
+   *
+   * @param delta amount to add
+   * @return the new value
+   */
+  public long add(final long delta) {
+    return this.value.addAndGet(delta);
+  }
+
+  /**
+   * Atomically add one to the value of this AtomicLongVariable.
+   *
+   * @return the new value
+   */
+  public long increment() {
+    return this.value.incrementAndGet();
+  }
+
+  /**
+   * Atomically change the value of this AtomicLongVariable, if it is still the expected value.
+   *
+   * @param expected the value it must still have
+   * @param value new value
+   * @return whether the value was changed
+   */
+  public boolean compareAndSet(final long expected, final long value) {
+    return this.value.compareAndSet(expected, value);
+  }
+}
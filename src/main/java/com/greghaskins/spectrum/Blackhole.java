@@ -0,0 +1,64 @@
+package com.greghaskins.spectrum;
+
+/**
+ * Consumes values computed by a benchmark, so that the JIT compiler can't decide the work which
+ * computed them is unused, and remove it. Pass the result of the code being measured to
+ * {@link #consume} at the end of each iteration.
+ *
+ * @see Configure#benchmark(int, int)
+ */
+public final class Blackhole {
+  // written but never read - the JIT compiler can't prove that nothing reads them
+  private static Object objectSink;
+  private static int intSink;
+  private static long longSink;
+  private static double doubleSink;
+  private static boolean booleanSink;
+
+  private Blackhole() {}
+
+  /**
+   * Consume a value.
+   *
+   * @param value the result of the work being measured
+   */
+  public static void consume(final Object value) {
+    objectSink = value;
+  }
+
+  /**
+   * Consume a value.
+   *
+   * @param value the result of the work being measured
+   */
+  public static void consume(final int value) {
+    intSink = value;
+  }
+
+  /**
+   * Consume a value.
+   *
+   * @param value the result of the work being measured
+   */
+  public static void consume(final long value) {
+    longSink = value;
+  }
+
+  /**
+   * Consume a value.
+   *
+   * @param value the result of the work being measured
+   */
+  public static void consume(final double value) {
+    doubleSink = value;
+  }
+
+  /**
+   * Consume a value.
+   *
+   * @param value the result of the work being measured
+   */
+  public static void consume(final boolean value) {
+    booleanSink = value;
+  }
+}
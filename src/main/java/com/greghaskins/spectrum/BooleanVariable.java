@@ -0,0 +1,46 @@
+package com.greghaskins.spectrum;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A {@link Variable} holding a {@code boolean}, without boxing it - useful for flags in specs.
+ * Like {@link Variable}, it is not thread-safe: use {@link AtomicBooleanVariable} when code
+ * running on other threads updates the value.
+ */
+public final class BooleanVariable implements BooleanSupplier {
+
+  private boolean value;
+
+  /**
+   * Create a BooleanVariable with an initial value of {@code false}.
+   */
+  public BooleanVariable() {}
+
+  /**
+   * Create a BooleanVariable with the given initial value.
+   *
+   * @param value starting value
+   */
+  public BooleanVariable(final boolean value) {
+    set(value);
+  }
+
+  /**
+   * Get the current value of this BooleanVariable.
+   *
+   * @return current value
+   */
+  @Override
+  public boolean getAsBoolean() {
+    return this.value;
+  }
+
+  /**
+   * Change the value of this BooleanVariable.
+   *
+   * @param value new value
+   */
+  public void set(final boolean value) {
+    this.value = value;
+  }
+}
@@ -1,13 +1,23 @@
 package com.greghaskins.spectrum;
 
+import com.greghaskins.spectrum.internal.Benchmark;
 import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.PerformanceBaseline;
+import com.greghaskins.spectrum.internal.Repetition;
+import com.greghaskins.spectrum.internal.configuration.BlockBenchmark;
+import com.greghaskins.spectrum.internal.configuration.BlockDeadline;
 import com.greghaskins.spectrum.internal.configuration.BlockFocused;
 import com.greghaskins.spectrum.internal.configuration.BlockIgnore;
+import com.greghaskins.spectrum.internal.configuration.BlockParallel;
+import com.greghaskins.spectrum.internal.configuration.BlockPerformanceBaseline;
+import com.greghaskins.spectrum.internal.configuration.BlockRepetition;
 import com.greghaskins.spectrum.internal.configuration.BlockTagging;
 import com.greghaskins.spectrum.internal.configuration.BlockTimeout;
 import com.greghaskins.spectrum.internal.configuration.ConfiguredBlock;
 import com.greghaskins.spectrum.internal.configuration.ExcludeTags;
 import com.greghaskins.spectrum.internal.configuration.IncludeTags;
+import com.greghaskins.spectrum.internal.configuration.MatchTags;
+import com.greghaskins.spectrum.internal.configuration.StopAfterFailures;
 import com.greghaskins.spectrum.internal.junit.Rules;
 
 import java.time.Duration;
@@ -18,6 +28,22 @@ public interface Configure {
 
   String EXCLUDE_TAGS_PROPERTY = "spectrum.exclude.tags";
   String INCLUDE_TAGS_PROPERTY = "spectrum.include.tags";
+  String TAGS_PROPERTY = "spectrum.tags";
+  String PRUNE_IGNORED_PROPERTY = "spectrum.prune.ignored";
+  String GLOBAL_FIXTURES_KEEP_ALIVE_PROPERTY = "spectrum.fixtures.keepalive";
+  String PARALLEL_PROPERTY = "spectrum.parallel";
+  String ASYNC_REPORTING_PROPERTY = "spectrum.reporting.async";
+  String TIMEOUT_WATCHDOG_PROPERTY = "spectrum.timeout.watchdog";
+  String FAIL_FAST_PROPERTY = "spectrum.failfast";
+  String TIMING_REPORT_PROPERTY = "spectrum.timing.report";
+  String HISTORY_PROPERTY = "spectrum.history";
+  String ORDER_PROPERTY = "spectrum.order";
+  String SHARD_INDEX_PROPERTY = "spectrum.shard.index";
+  String SHARD_COUNT_PROPERTY = "spectrum.shard.count";
+  String SHARD_MODE_PROPERTY = "spectrum.shard.mode";
+  String ASYNC_CLOSE_PROPERTY = "spectrum.close.async";
+  String BASELINE_PROPERTY = "spectrum.baseline";
+  String BASELINE_UPDATE_PROPERTY = "spectrum.baseline.update";
 
   /**
    * Surround a {@link Block} with the {@code with} statement to add
@@ -34,6 +60,12 @@ public interface Configure {
    * @see #focus()
    * @see #tags(String...)
    * @see #timeout(Duration)
+   * @see #deadline(Duration)
+   * @see #parallel(int)
+   * @see #benchmark(int, int)
+   * @see #performanceBaseline(double)
+   * @see #repeat(int)
+   * @see #soak(Duration)
    */
   static Block with(final BlockConfigurationChain configuration, final Block block) {
     return ConfiguredBlock.with(configuration.getBlockConfiguration(), block);
@@ -101,7 +133,8 @@ public interface Configure {
 
   /**
    * Apply timeout to all leaf nodes from this level down. Can be superseded by a lower level having its
-   * own timeout.
+   * own timeout. Set the {@value #TIMEOUT_WATCHDOG_PROPERTY} system property to run timed specs
+   * on the calling thread, watched by one shared thread, instead of a thread per spec.
    * @param timeout the amount of the timeout
    * @return a chainable configuration that will apply a timeout to all leaf nodes below
    */
@@ -109,6 +142,104 @@ public interface Configure {
     return new BlockConfigurationChain().with(new BlockTimeout(timeout));
   }
 
+  /**
+   * Give a suite a budget of time for everything inside it, including its hooks, rather than
+   * for each spec. Nested suites and specs get whatever remains of the budget. When it runs out,
+   * the specs still running are interrupted and the rest are not run - all of them fail with a
+   * timeout.
+   * @param budget how long the suite may take
+   * @return a chainable configuration that will limit how long the suite may take
+   */
+  static BlockConfigurationChain deadline(Duration budget) {
+    return new BlockConfigurationChain().with(new BlockDeadline(budget));
+  }
+
+  /**
+   * Run the children of the suite concurrently, and those of all suites below it. Can be
+   * superseded by a lower level having its own setting. Set the {@value #PARALLEL_PROPERTY}
+   * system property to apply this to every test class.
+   * @param maxConcurrency the most children of a suite that may run at once - 1 runs them serially
+   * @return a chainable configuration that will run the children of the suite in parallel
+   */
+  static BlockConfigurationChain parallel(int maxConcurrency) {
+    return new BlockConfigurationChain().with(new BlockParallel(maxConcurrency));
+  }
+
+  /**
+   * Run each spec as a microbenchmark. The spec is run {@code warmupIterations} times for the JIT
+   * compiler to warm it up, then {@code measuredIterations} times while timing it, and its
+   * throughput and latency percentiles are written to the test output. Hooks such as
+   * {@code beforeEach} run once, around all the iterations. Pass the results of the code being
+   * measured to {@link Blackhole#consume} so the JIT compiler doesn't remove it.
+   * @param warmupIterations how many times to run the spec before measuring it
+   * @param measuredIterations how many times to run the spec while measuring it
+   * @return a chainable configuration that will benchmark all leaf nodes below
+   */
+  static BlockConfigurationChain benchmark(int warmupIterations, int measuredIterations) {
+    return benchmark(warmupIterations, measuredIterations, 0);
+  }
+
+  /**
+   * Run each spec as a microbenchmark, failing it if its throughput is too low.
+   * @param warmupIterations how many times to run the spec before measuring it
+   * @param measuredIterations how many times to run the spec while measuring it
+   * @param minimumOpsPerSecond the fewest iterations per second the spec must manage
+   * @return a chainable configuration that will benchmark all leaf nodes below
+   * @see #benchmark(int, int)
+   */
+  static BlockConfigurationChain benchmark(int warmupIterations, int measuredIterations,
+      double minimumOpsPerSecond) {
+    return new BlockConfigurationChain().with(new BlockBenchmark(
+        new Benchmark(warmupIterations, measuredIterations, minimumOpsPerSecond)));
+  }
+
+  /**
+   * Fail each spec which has become slower than its recorded baseline. The spec is run 5 times,
+   * and the first time it runs, the median of its durations is recorded in the file named by the
+   * {@value #BASELINE_PROPERTY} system property - {@code spectrum-baseline.txt} by default. On
+   * later runs, it fails if its median is more than the tolerance slower. Set the
+   * {@value #BASELINE_UPDATE_PROPERTY} system property to {@code true} to record new baselines.
+   * @param tolerance how much slower a spec may become, as a fraction - 0.2 for 20%
+   * @return a chainable configuration that will check all leaf nodes below against their baselines
+   */
+  static BlockConfigurationChain performanceBaseline(double tolerance) {
+    return performanceBaseline(tolerance, 5);
+  }
+
+  /**
+   * Fail each spec which has become slower than its recorded baseline, finding its median
+   * duration over the given number of repetitions.
+   * @param tolerance how much slower a spec may become, as a fraction - 0.2 for 20%
+   * @param repetitions how many times to run the spec
+   * @return a chainable configuration that will check all leaf nodes below against their baselines
+   * @see #performanceBaseline(double)
+   */
+  static BlockConfigurationChain performanceBaseline(double tolerance, int repetitions) {
+    return new BlockConfigurationChain().with(new BlockPerformanceBaseline(
+        new PerformanceBaseline(tolerance, repetitions)));
+  }
+
+  /**
+   * Run each spec a number of times, with all of its hooks each time, as a single test. The
+   * spec fails if any of the iterations fail, with the first failure. The number of failures and
+   * the distribution of the iterations' durations are written to the test output.
+   * @param times how many times to run each spec
+   * @return a chainable configuration that will repeat all leaf nodes below
+   */
+  static BlockConfigurationChain repeat(int times) {
+    return new BlockConfigurationChain().with(new BlockRepetition(Repetition.times(times)));
+  }
+
+  /**
+   * Run each spec over and over, with all of its hooks each time, until the time is up - as a
+   * single test. Otherwise, this is like {@link #repeat(int)}.
+   * @param duration how long to keep running each spec
+   * @return a chainable configuration that will soak test all leaf nodes below
+   */
+  static BlockConfigurationChain soak(Duration duration) {
+    return new BlockConfigurationChain().with(new BlockRepetition(Repetition.lasting(duration)));
+  }
+
   /**
    * Filter which tests in the current suite will run.
    *
@@ -118,6 +249,8 @@ public interface Configure {
    * @param configuration chainable filter configuration
    * @see #includeTags(String...)
    * @see #excludeTags(String...)
+   * @see #matchTags(String)
+   * @see #failFast()
    */
   static void filterRun(FilterConfigurationChain configuration) {
     configuration.applyTo(DeclarationState.instance().getCurrentSuiteBeingDeclared());
@@ -143,6 +276,41 @@ public interface Configure {
     return new FilterConfigurationChain(new ExcludeTags(tagsToExclude));
   }
 
+  /**
+   * Set the test filter to require the tags of all following specs to match an expression, such
+   * as {@code (fast | unit) & !flaky}. Set the {@value #TAGS_PROPERTY} system property to apply
+   * an expression to every test class.
+   *
+   * @param tagExpression tags combined with {@code !}, {@code &}, {@code |} and brackets
+   * @return FilterConfigurationChain instance for chaining further calls
+   */
+  static FilterConfigurationChain matchTags(String tagExpression) {
+    return new FilterConfigurationChain(new MatchTags(tagExpression));
+  }
+
+  /**
+   * Stop the run at the first failure. The specs which haven't started by then are reported as
+   * ignored, without running them or their hooks. Set the {@value #FAIL_FAST_PROPERTY} system
+   * property to {@code true} to stop the whole run - every test class - at the first failure.
+   *
+   * @return FilterConfigurationChain instance for chaining further calls
+   */
+  static FilterConfigurationChain failFast() {
+    return failFast(1);
+  }
+
+  /**
+   * Stop the run once the given number of specs have failed. Set the {@value #FAIL_FAST_PROPERTY}
+   * system property to the number to stop the whole run - every test class.
+   *
+   * @param maxFailures how many specs may fail before the run stops
+   * @return FilterConfigurationChain instance for chaining further calls
+   * @see #failFast()
+   */
+  static FilterConfigurationChain failFast(int maxFailures) {
+    return new FilterConfigurationChain(new StopAfterFailures(maxFailures));
+  }
+
   /**
    * Uses the given class as a mix-in for JUnit rules to be applied. These rules will cascade down
    * and be applied at the level of specs or atomic specs.
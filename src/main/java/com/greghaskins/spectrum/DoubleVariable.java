@@ -0,0 +1,58 @@
+package com.greghaskins.spectrum;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A {@link Variable} holding a {@code double}, without boxing it - useful for accumulating
+ * measurements in specs. Like {@link Variable}, it is not thread-safe: use
+ * {@link AtomicDoubleVariable} when code running on other threads updates the value.
+ */
+public final class DoubleVariable implements DoubleSupplier {
+
+  private double value;
+
+  /**
+   * Create a DoubleVariable with an initial value of {@code 0}.
+   */
+  public DoubleVariable() {}
+
+  /**
+   * Create a DoubleVariable with the given initial value.
+   *
+   * @param value starting value
+   */
+  public DoubleVariable(final double value) {
+    set(value);
+  }
+
+  /**
+   * Get the current value of this DoubleVariable.
+   *
+   * @return current value
+   */
+  @Override
+  public double getAsDouble() {
+    return this.value;
+  }
+
+  /**
+   * Change the value of this DoubleVariable.
+   *
+   * @param value new value
+   */
+  public void set(final double value) {
+    this.value = value;
+  }
+
+  /**
+   * Add to the value of this DoubleVariable.
+   *
+   * @param delta amount to add
+   * @return the new value
+   */
+  public double add(final double delta) {
+    this.value += delta;
+
+    return this.value;
+  }
+}
@@ -0,0 +1,67 @@
+package com.greghaskins.spectrum;
+
+import java.util.function.IntSupplier;
+
+/**
+ * A {@link Variable} holding an {@code int}, without boxing it - useful for counting things in
+ * specs. Like {@link Variable}, it is not thread-safe: use {@link AtomicIntVariable} when code
+ * running on other threads updates the value.
+ */
+public final class IntVariable implements IntSupplier {
+
+  private int value;
+
+  /**
+   * Create an IntVariable with an initial value of {@code 0}.
+   */
+  public IntVariable() {}
+
+  /**
+   * Create an IntVariable with the given initial value.
+   *
+   * @param value starting value
+   */
+  public IntVariable(final int value) {
+    set(value);
+  }
+
+  /**
+   * Get the current value of this IntVariable.
+   *
+   * @return current value
+   */
+  @Override
+  public int getAsInt() {
+    return this.value;
+  }
+
+  /**
+   * Change the value of this IntVariable.
+   *
+   * @param value new value
+   */
+  public void set(final int value) {
+    this.value = value;
+  }
+
+  /**
+   * Add to the value of this IntVariable.
+   *
+   * @param delta amount to add
+   * @return the new value
+   */
+  public int add(final int delta) {
+    this.value += delta;
+
+    return this.value;
+  }
+
+  /**
+   * Add one to the value of this IntVariable.
+   *
+   * @return the new value
+   */
+  public int increment() {
+    return add(1);
+  }
+}
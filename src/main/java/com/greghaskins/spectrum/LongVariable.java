@@ -0,0 +1,67 @@
+package com.greghaskins.spectrum;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link Variable} holding a {@code long}, without boxing it - useful for counters and totals in
+ * specs. Like {@link Variable}, it is not thread-safe: use {@link AtomicLongVariable} when code
+ * running on other threads updates the value.
+ */
+public final class LongVariable implements LongSupplier {
+
+  private long value;
+
+  /**
+   * Create a LongVariable with an initial value of {@code 0}.
+   */
+  public LongVariable() {}
+
+  /**
+   * Create a LongVariable with the given initial value.
+   *
+   * @param value starting value
+   */
+  public LongVariable(final long value) {
+    set(value);
+  }
+
+  /**
+   * Get the current value of this LongVariable.
+   *
+   * @return current value
+   */
+  @Override
+  public long getAsLong() {
+    return this.value;
+  }
+
+  /**
+   * Change the value of this LongVariable.
+   *
+   * @param value new value
+   */
+  public void set(final long value) {
+    this.value = value;
+  }
+
+  /**
+   * Add to the value of this LongVariable.
+   *
+   * @param delta amount to add
+   * @return the new value
+   */
+  public long add(final long delta) {
+    this.value += delta;
+
+    return this.value;
+  }
+
+  /**
+   * Add one to the value of this LongVariable.
+   *
+   * @return the new value
+   */
+  public long increment() {
+    return add(1);
+  }
+}
@@ -1,16 +1,31 @@
 package com.greghaskins.spectrum;
 
 import com.greghaskins.spectrum.dsl.specification.Specification;
+import com.greghaskins.spectrum.internal.AsyncDeliveryRunDecorator;
 import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.GlobalFixtures;
+import com.greghaskins.spectrum.internal.RunHistory;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.RunTimings;
+import com.greghaskins.spectrum.internal.Shard;
 import com.greghaskins.spectrum.internal.Suite;
 import com.greghaskins.spectrum.internal.blocks.ConstructorBlock;
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
+import com.greghaskins.spectrum.internal.hooks.ValueCloser;
 import com.greghaskins.spectrum.internal.junit.Rules;
 import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
 
 import org.junit.runner.Description;
 import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sortable;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -25,7 +40,7 @@ import java.util.function.Supplier;
  * @see Specification#afterEach
  * @see Specification#let
  */
-public final class Spectrum extends Runner {
+public final class Spectrum extends Runner implements Filterable, Sortable {
 
   /**
    * A generic code block with a {@link #run()} method to perform any action. Usually defined by a
@@ -249,6 +264,11 @@ public final class Spectrum extends Runner {
   Spectrum(Description description, com.greghaskins.spectrum.Block definitionBlock) {
     this.rootSuite = Suite.rootSuite(description);
     DeclarationState.instance().beginDeclaration(this.rootSuite, definitionBlock);
+    this.rootSuite.freeze();
+    Shard.fromSystemProperty().ifPresent(shard -> shard.prune(this.rootSuite));
+    RunHistory.fromSystemProperty()
+        .flatMap(history -> history.ordering(getDescription()))
+        .ifPresent(this::sort);
   }
 
   @Override
@@ -256,9 +276,77 @@ public final class Spectrum extends Runner {
     return this.rootSuite.getDescription();
   }
 
+  @Override
+  public int testCount() {
+    return this.rootSuite.testCount();
+  }
+
+  /**
+   * Remove the specs which the filter does not select, along with any suites left empty, so
+   * that neither they nor their hooks are run. The steps of a scenario are kept together.
+   *
+   * @param filter which specs to keep
+   * @throws NoTestsRemainException if the filter selects nothing
+   */
+  @Override
+  public void filter(final Filter filter) throws NoTestsRemainException {
+    if (!this.rootSuite.filter(filter)) {
+      throw new NoTestsRemainException();
+    }
+  }
+
+  /**
+   * Reorder the children of every suite. The steps of a scenario always stay in order.
+   *
+   * @param sorter the ordering to use
+   */
+  @Override
+  public void sort(final Sorter sorter) {
+    this.rootSuite.sort(sorter);
+  }
+
   @Override
   public void run(final RunNotifier notifier) {
-    this.rootSuite.run(new RunNotifierReporting(notifier));
+    final RunNotifierReporting reporting = new RunNotifierReporting(notifier);
+    final Optional<RunTimings> timings = RunTimings.fromSystemProperty();
+    final Optional<RunHistory> history = RunHistory.fromSystemProperty();
+    try {
+      if (Boolean.getBoolean(Configure.ASYNC_REPORTING_PROPERTY)) {
+        try (AsyncDeliveryRunDecorator<Description, Failure> asyncReporting =
+            new AsyncDeliveryRunDecorator<>(reporting)) {
+          runRootSuite(recording(timings, history, asyncReporting));
+        }
+      } else {
+        runRootSuite(recording(timings, history, reporting));
+      }
+    } finally {
+      releaseGlobalFixtures(reporting);
+      timings.ifPresent(RunTimings::writeReport);
+      history.ifPresent(RunHistory::write);
+    }
+  }
+
+  private void runRootSuite(final RunReporting<Description, Failure> reporting) {
+    // the root suite runs in a context of its own, like every suite inside it
+    ExecutionContext.runInNewContext(() -> ValueCloser.closingInBackground(reporting,
+        this.rootSuite::run));
+  }
+
+  private void releaseGlobalFixtures(final RunReporting<Description, Failure> reporting) {
+    // given back here rather than by a hook, as a root suite with no specs to run runs no hooks
+    try {
+      GlobalFixtures.release(this.rootSuite);
+    } catch (final Throwable closeFailed) {
+      reporting.fireTestFailure(new Failure(getDescription(), closeFailed));
+    }
+  }
+
+  private RunReporting<Description, Failure> recording(final Optional<RunTimings> timings,
+      final Optional<RunHistory> history, final RunReporting<Description, Failure> reporting) {
+    final RunReporting<Description, Failure> timed =
+        timings.map(recorder -> recorder.recording(getDescription(), reporting)).orElse(reporting);
+
+    return history.map(recorder -> recorder.recording(getDescription(), timed)).orElse(timed);
   }
 
   /**
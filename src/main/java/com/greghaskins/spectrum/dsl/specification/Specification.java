@@ -3,6 +3,8 @@ package com.greghaskins.spectrum.dsl.specification;
 import static com.greghaskins.spectrum.Configure.focus;
 import static com.greghaskins.spectrum.Configure.ignore;
 import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.internal.RunTimings.timed;
+import static com.greghaskins.spectrum.internal.RunTimings.timedAround;
 import static com.greghaskins.spectrum.internal.hooks.AfterHook.after;
 import static com.greghaskins.spectrum.internal.hooks.BeforeHook.before;
 
@@ -10,13 +12,17 @@ import com.greghaskins.spectrum.Block;
 import com.greghaskins.spectrum.ThrowingConsumer;
 import com.greghaskins.spectrum.ThrowingSupplier;
 import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.GlobalFixtures;
 import com.greghaskins.spectrum.internal.Suite;
 import com.greghaskins.spectrum.internal.blocks.IdempotentBlock;
+import com.greghaskins.spectrum.internal.hooks.AsyncEagerLetHook;
 import com.greghaskins.spectrum.internal.hooks.EagerLetHook;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
 import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
+import com.greghaskins.spectrum.internal.hooks.LetAllHook;
 import com.greghaskins.spectrum.internal.hooks.LetHook;
+import com.greghaskins.spectrum.internal.hooks.PooledLetHook;
 
 import org.junit.AssumptionViolatedException;
 
@@ -36,7 +42,7 @@ public interface Specification {
         .getCurrentSuiteBeingDeclared()
         .addSuite(context);
     suite.applyConfigurationFromBlock(block);
-    DeclarationState.instance().beginDeclaration(suite, block);
+    DeclarationState.instance().declareSuite(suite, block);
   }
 
   /**
@@ -118,7 +124,8 @@ public interface Specification {
    * @param block {@link Block} to run once before each spec
    */
   static void beforeEach(final Block block) {
-    DeclarationState.instance().addHook(before(block), AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
+    DeclarationState.instance().addHook(before(timed("beforeEach", block)),
+        AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
   }
 
   /**
@@ -132,8 +139,8 @@ public interface Specification {
    * @param block {@link Block Block} to run once after each spec
    */
   static void afterEach(final Block block) {
-    DeclarationState.instance().addHook(after(block), AppliesTo.ATOMIC_ONLY,
-        Precedence.GUARANTEED_CLEAN_UP_LOCAL);
+    DeclarationState.instance().addHook(after(timed("afterEach", block)),
+        AppliesTo.ATOMIC_ONLY, Precedence.GUARANTEED_CLEAN_UP_LOCAL);
   }
 
   /**
@@ -147,8 +154,8 @@ public interface Specification {
    * @param block {@link Block} to run once before all specs in this suite
    */
   static void beforeAll(final Block block) {
-    DeclarationState.instance().addHook(before(new IdempotentBlock(block)), AppliesTo.ATOMIC_ONLY,
-        Precedence.SET_UP);
+    DeclarationState.instance().addHook(before(new IdempotentBlock(timed("beforeAll", block))),
+        AppliesTo.ATOMIC_ONLY, Precedence.SET_UP);
   }
 
   /**
@@ -162,7 +169,7 @@ public interface Specification {
    * @param block {@link Block} to run once after all specs in this suite
    */
   static void afterAll(final Block block) {
-    DeclarationState.instance().addHook(after(block), AppliesTo.ONCE,
+    DeclarationState.instance().addHook(after(timed("afterAll", block)), AppliesTo.ONCE,
         Precedence.GUARANTEED_CLEAN_UP_GLOBAL);
   }
 
@@ -174,13 +181,17 @@ public interface Specification {
    * time it is used.
    * </p>
    *
+   * <p>
+   * If the value is {@link AutoCloseable}, it is closed when the spec ends.
+   * </p>
+   *
    * @param <T>      The type of value
    * @param supplier {@link ThrowingSupplier} function that either generates the value, or throws a
    *                 {@link Throwable}
    * @return supplier which is refreshed for each spec's context
    */
   static <T> Supplier<T> let(final ThrowingSupplier<T> supplier) {
-    LetHook<T> letHook = new LetHook<>(supplier);
+    LetHook<T> letHook = new LetHook<>(timed("let", supplier));
     DeclarationState.instance().addHook(letHook, AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
 
     return letHook;
@@ -194,18 +205,144 @@ public interface Specification {
    * of the spec, before {@code beforeEach} blocks.
    * </p>
    *
+   * <p>
+   * If the value is {@link AutoCloseable}, it is closed when the spec ends.
+   * </p>
+   *
    * @param <T>      The type of value
    * @param supplier {@link ThrowingSupplier} function that either generates the value, or throws a
    *                 {@link Throwable}
    * @return supplier which is refreshed for each spec's context
    */
   static <T> Supplier<T> eagerLet(final ThrowingSupplier<T> supplier) {
-    EagerLetHook<T> eagerLetHook = new EagerLetHook<>(supplier);
+    EagerLetHook<T> eagerLetHook = new EagerLetHook<>(timed("eagerLet", supplier));
     DeclarationState.instance().addHook(eagerLetHook, AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
 
     return eagerLetHook;
   }
 
+  /**
+   * Like {@link #eagerLet}, but the value is calculated in the background, so that a spec with
+   * several slow values - each waiting on I/O, say - calculates them all at the same time.
+   *
+   * <p>
+   * The {@code supplier} is started at the start of each spec, but nothing waits for it until
+   * just before the spec itself runs, by which time every {@code asyncEagerLet} in force, and
+   * any {@code beforeEach} blocks, have been started too. If any of the values can't be
+   * calculated, the spec fails with the failure of the first one declared. A {@code beforeEach}
+   * block which uses the value waits for it.
+   * </p>
+   *
+   * <p>
+   * The values must be independent of one another, since they may be calculated in any order,
+   * and their suppliers must be safe to call from another thread.
+   * </p>
+   *
+   * @param <T>      The type of value
+   * @param supplier {@link ThrowingSupplier} function that either generates the value, or throws a
+   *                 {@link Throwable}
+   * @return supplier which is refreshed for each spec's context
+   */
+  static <T> Supplier<T> asyncEagerLet(final ThrowingSupplier<T> supplier) {
+    AsyncEagerLetHook<T> asyncEagerLetHook =
+        new AsyncEagerLetHook<>(timed("asyncEagerLet", supplier));
+    DeclarationState.instance().addHook(asyncEagerLetHook, AppliesTo.ATOMIC_ONLY,
+        Precedence.LOCAL);
+    DeclarationState.instance().addHook(AsyncEagerLetHook.awaitingSetUp(), AppliesTo.ATOMIC_ONLY,
+        Precedence.INNERMOST);
+
+    return asyncEagerLetHook;
+  }
+
+  /**
+   * A value which each spec has to itself, like {@link #let}, but which is reset and reused
+   * rather than created afresh for every spec. Use this for values which are expensive to create
+   * but cheap to reset, such as database connections or parsers with large caches.
+   *
+   * <p>
+   * The first time a spec uses the value it takes one from a pool, or calls the {@code supplier}
+   * if the pool is empty. When the spec finishes, the {@code resetter} is called and the value
+   * returned to the pool. The pool keeps as many values as there are processors.
+   * </p>
+   *
+   * @param <T>      The type of value
+   * @param supplier {@link ThrowingSupplier} function that creates a new value
+   * @param resetter {@link ThrowingConsumer} which puts a used value back into the state the
+   *                 {@code supplier} creates them in
+   * @return supplier of the value for each spec
+   */
+  static <T> Supplier<T> pooledLet(final ThrowingSupplier<T> supplier,
+      final ThrowingConsumer<T> resetter) {
+    return pooledLet(supplier, resetter, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * A value which each spec has to itself, reset and reused from a pool of the given size.
+   *
+   * @param <T>      The type of value
+   * @param supplier {@link ThrowingSupplier} function that creates a new value
+   * @param resetter {@link ThrowingConsumer} which puts a used value back into the state the
+   *                 {@code supplier} creates them in
+   * @param poolSize the most values to keep for reuse - at least 1
+   * @return supplier of the value for each spec
+   * @see #pooledLet(ThrowingSupplier, ThrowingConsumer)
+   */
+  static <T> Supplier<T> pooledLet(final ThrowingSupplier<T> supplier,
+      final ThrowingConsumer<T> resetter, final int poolSize) {
+    PooledLetHook<T> pooledLetHook =
+        new PooledLetHook<>(timed("pooledLet", supplier), resetter, poolSize);
+    DeclarationState.instance().addHook(pooledLetHook, AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
+    DeclarationState.instance().addHook(pooledLetHook.drainingThePoolAfterwards(),
+        AppliesTo.ONCE, Precedence.OUTER);
+
+    return pooledLetHook;
+  }
+
+  /**
+   * A value shared by all the specs in the current suite, including those in nested suites.
+   *
+   * <p>
+   * Note that {@code letAll} is lazy-evaluated: the {@code supplier} is called at most once each
+   * time the suite runs, when a spec first uses the value. When the suite finishes the value is
+   * discarded, and closed if it is {@link AutoCloseable}. Use this for fixtures which are too
+   * expensive to create for every spec, bearing in mind that any state they hold
+   * <strong>will</strong> leak across specs.
+   * </p>
+   *
+   * @param <T>      The type of value
+   * @param supplier {@link ThrowingSupplier} function that either generates the value, or throws a
+   *                 {@link Throwable}
+   * @return supplier of the value for the current run of the suite
+   */
+  static <T> Supplier<T> letAll(final ThrowingSupplier<T> supplier) {
+    LetAllHook<T> letAllHook = new LetAllHook<>(timed("letAll", supplier));
+    DeclarationState.instance().addHook(letAllHook, AppliesTo.ONCE, Precedence.OUTER);
+
+    return letAllHook;
+  }
+
+  /**
+   * A fixture shared by every test class in the JVM which declares it with the same key - for
+   * example an embedded database or message broker, which is too slow to start for each test
+   * class.
+   *
+   * <p>
+   * The {@code supplier} is called when the fixture is first used. The fixture is closed, if it
+   * is {@link AutoCloseable}, when the JVM shuts down. Fixtures with the same key must be of the
+   * same type.
+   * </p>
+   *
+   * @param <T>      The type of the fixture
+   * @param key      the name the fixture is shared by
+   * @param supplier {@link ThrowingSupplier} function that creates the fixture, if no other test
+   *                 class has already
+   * @return supplier of the shared fixture
+   * @see com.greghaskins.spectrum.Configure#GLOBAL_FIXTURES_KEEP_ALIVE_PROPERTY
+   */
+  static <T> Supplier<T> globalFixture(final String key, final ThrowingSupplier<T> supplier) {
+    return GlobalFixtures.acquire(key, supplier);
+  }
+
   /**
    * Define a test context. Alias for {@link #describe}.
    *
@@ -260,8 +397,8 @@ public interface Specification {
    * @param consumer to run each spec block
    */
   static void aroundEach(ThrowingConsumer<Block> consumer) {
-    DeclarationState.instance().addHook(Hook.from(consumer), AppliesTo.ATOMIC_ONLY,
-        Precedence.GUARANTEED_CLEAN_UP_LOCAL);
+    DeclarationState.instance().addHook(Hook.from(timedAround("aroundEach", consumer)),
+        AppliesTo.ATOMIC_ONLY, Precedence.GUARANTEED_CLEAN_UP_LOCAL);
   }
 
   /**
@@ -272,7 +409,8 @@ public interface Specification {
    * @param consumer to run each spec block
    */
   static void aroundAll(ThrowingConsumer<Block> consumer) {
-    DeclarationState.instance().addHook(Hook.from(consumer), AppliesTo.ONCE, Precedence.OUTER);
+    DeclarationState.instance().addHook(Hook.from(timedAround("aroundAll", consumer)),
+        AppliesTo.ONCE, Precedence.OUTER);
   }
 
 }
@@ -0,0 +1,222 @@
+package com.greghaskins.spectrum.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Decouples the threads running specs from the cost of reporting. Events are accepted from any
+ * number of threads without locking and delivered in batches to the decorated reporting by a
+ * dedicated thread.
+ *
+ * <p>Events are delivered in the order they were accepted, so for each test they arrive in the
+ * order they were fired: started, then any failures, then finished.
+ *
+ * <p>Back-pressure: at most {@code capacity} events may be waiting for delivery. A thread firing
+ * an event beyond that waits until the delivery thread has made room.
+ *
+ * <p>{@link #close()} waits for every accepted event to be delivered, so the run is complete
+ * once it returns.
+ *
+ * <p>If delivering an event fails - such as when the user asks the run to stop - no more events
+ * are delivered, and the failure is thrown to the next thread which fires an event, so that the
+ * run stops much as it would when reporting synchronously.
+ */
+public final class AsyncDeliveryRunDecorator<T, F> implements RunReporting<T, F>, AutoCloseable {
+  public static final int DEFAULT_CAPACITY = 4096;
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  private final RunReporting<T, F> decoratee;
+  private final RunReporting<T, F> dropping = new DroppingReporting<>();
+  private final Queue<Consumer<RunReporting<T, F>>> events = new ConcurrentLinkedQueue<>();
+  private final Semaphore room;
+  private final int batchSize;
+  private final Thread deliveryThread;
+
+  private volatile boolean waitingForEvents;
+  private volatile boolean closed;
+  private volatile Throwable deliveryFailure;
+
+  public AsyncDeliveryRunDecorator(final RunReporting<T, F> decoratee) {
+    this(decoratee, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Construct the decorator and start its delivery thread.
+   * @param decoratee the reporting to deliver events to
+   * @param capacity the most events that may wait for delivery before firing threads wait
+   * @param batchSize the most events delivered between checks for room
+   */
+  public AsyncDeliveryRunDecorator(final RunReporting<T, F> decoratee, final int capacity,
+      final int batchSize) {
+    this.decoratee = decoratee;
+    this.room = new Semaphore(capacity);
+    this.batchSize = batchSize;
+    this.deliveryThread = new Thread(this::deliverUntilClosed, "spectrum-reporting");
+    this.deliveryThread.setDaemon(true);
+    this.deliveryThread.start();
+  }
+
+  @Override
+  public void fireTestIgnored(final T description) {
+    accept(reporting -> reporting.fireTestIgnored(description));
+  }
+
+  @Override
+  public void fireTestStarted(final T description) {
+    accept(reporting -> reporting.fireTestStarted(description));
+  }
+
+  @Override
+  public void fireTestFinished(final T description) {
+    accept(reporting -> reporting.fireTestFinished(description));
+  }
+
+  @Override
+  public void fireTestFailure(final F failure) {
+    accept(reporting -> reporting.fireTestFailure(failure));
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final F failure) {
+    accept(reporting -> reporting.fireTestAssumptionFailed(failure));
+  }
+
+  /**
+   * Wait until every event accepted so far has been delivered, or dropped after a failure.
+   */
+  public void flush() {
+    final CountDownLatch delivered = new CountDownLatch(1);
+    enqueue(reporting -> delivered.countDown());
+    awaitUninterruptibly(delivered);
+  }
+
+  /**
+   * Deliver all outstanding events and stop the delivery thread. Any error thrown while
+   * delivering - such as the run being stopped by the user - is rethrown here.
+   */
+  @Override
+  public void close() {
+    flush();
+    this.closed = true;
+    LockSupport.unpark(this.deliveryThread);
+    joinUninterruptibly(this.deliveryThread);
+    rethrowDeliveryFailure();
+  }
+
+  private void accept(final Consumer<RunReporting<T, F>> event) {
+    rethrowDeliveryFailure();
+    enqueue(event);
+  }
+
+  private void enqueue(final Consumer<RunReporting<T, F>> event) {
+    this.room.acquireUninterruptibly();
+    this.events.add(event);
+    if (this.waitingForEvents) {
+      LockSupport.unpark(this.deliveryThread);
+    }
+  }
+
+  private void deliverUntilClosed() {
+    while (true) {
+      if (deliverBatch() == 0) {
+        if (this.closed && this.events.isEmpty()) {
+          return;
+        }
+        waitForEvents();
+      }
+    }
+  }
+
+  private int deliverBatch() {
+    int delivered = 0;
+    Consumer<RunReporting<T, F>> event;
+    while (delivered < this.batchSize && (event = this.events.poll()) != null) {
+      deliver(event);
+      delivered++;
+    }
+    this.room.release(delivered);
+
+    return delivered;
+  }
+
+  private void deliver(final Consumer<RunReporting<T, F>> event) {
+    try {
+      // once delivery has failed, later events are dropped rather than delivered
+      event.accept(this.deliveryFailure == null ? this.decoratee : this.dropping);
+    } catch (final Throwable throwable) {
+      if (this.deliveryFailure == null) {
+        this.deliveryFailure = throwable;
+      }
+    }
+  }
+
+  private void waitForEvents() {
+    // announce the wait before the final check, so a concurrent accept is sure to wake us
+    this.waitingForEvents = true;
+    if (this.events.isEmpty() && !this.closed) {
+      LockSupport.park(this);
+    }
+    this.waitingForEvents = false;
+  }
+
+  private void rethrowDeliveryFailure() {
+    final Throwable failure = this.deliveryFailure;
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    } else if (failure instanceof Error) {
+      throw (Error) failure;
+    } else if (failure != null) {
+      throw new RuntimeException(failure);
+    }
+  }
+
+  private static final class DroppingReporting<T, F> implements RunReporting<T, F> {
+    @Override
+    public void fireTestIgnored(final T description) {}
+
+    @Override
+    public void fireTestStarted(final T description) {}
+
+    @Override
+    public void fireTestFinished(final T description) {}
+
+    @Override
+    public void fireTestFailure(final F failure) {}
+
+    @Override
+    public void fireTestAssumptionFailed(final F failure) {}
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        latch.await();
+        break;
+      } catch (final InterruptedException interruption) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void joinUninterruptibly(final Thread thread) {
+    boolean interrupted = false;
+    while (thread.isAlive()) {
+      try {
+        thread.join();
+      } catch (final InterruptedException interruption) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.greghaskins.spectrum.internal;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes files shared between runs - and between test JVMs running at the same time - so that a
+ * reader never sees one half-written.
+ */
+final class AtomicFiles {
+  // a file lock is held by the whole JVM, so threads within it take turns by other means
+  private static final ConcurrentMap<Path, Object> monitors = new ConcurrentHashMap<>();
+
+  private AtomicFiles() {}
+
+  /**
+   * Replace the contents of a file in one step, by writing them to a temporary file beside it
+   * and moving that into its place.
+   * @param file the file to replace - an absolute path
+   * @param lines its new contents
+   * @throws IOException if the file could not be written
+   */
+  static void replace(final Path file, final List<String> lines) throws IOException {
+    final Path directory = file.getParent();
+    Files.createDirectories(directory);
+    final Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      Files.write(temporary, lines, StandardCharsets.UTF_8);
+      try {
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException notSupported) {
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Update a file while no other thread or test JVM is updating it, so that none of them
+   * replaces it with contents based on what it held before another's update. The lock is held on
+   * a {@code .lock} file beside it, as the file itself is replaced rather than written to.
+   * @param file the file to update - an absolute path
+   * @param update reads the file and replaces it
+   * @throws IOException if the file could not be locked or updated
+   */
+  static void update(final Path file, final Update update) throws IOException {
+    final Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+    Files.createDirectories(file.getParent());
+    synchronized (monitors.computeIfAbsent(file.normalize(), path -> new Object())) {
+      try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE);
+          FileLock lock = channel.lock()) {
+        update.run();
+      }
+    }
+  }
+
+  /**
+   * An update to a file.
+   */
+  @FunctionalInterface
+  interface Update {
+    void run() throws IOException;
+  }
+}
@@ -0,0 +1,114 @@
+package com.greghaskins.spectrum.internal;
+
+import static com.greghaskins.spectrum.internal.hooks.NonReportingHook.nonReportingHookFrom;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.hooks.NonReportingHook;
+
+import org.junit.runner.Description;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Runs a spec as a microbenchmark. The spec is run a number of times to let the JIT compiler
+ * warm it up, then timed over a number of measured iterations. Its throughput and latency are
+ * written to the test output, and the spec fails if its throughput is below the minimum.
+ *
+ * <p>Each iteration is timed on its own, so the figures include the cost of reading the clock -
+ * a few tens of nanoseconds. A spec which does less than that should loop inside its block. Use
+ * {@link com.greghaskins.spectrum.Blackhole} to stop the JIT compiler removing the work being
+ * measured.
+ */
+public final class Benchmark {
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final int warmupIterations;
+  private final int measuredIterations;
+  private final double minimumOpsPerSecond;
+
+  /**
+   * Create the benchmark.
+   * @param warmupIterations how many times to run the spec before measuring it
+   * @param measuredIterations how many times to run the spec while measuring it
+   * @param minimumOpsPerSecond the throughput below which the spec fails - 0 for none
+   */
+  public Benchmark(final int warmupIterations, final int measuredIterations,
+      final double minimumOpsPerSecond) {
+    if (warmupIterations < 0 || measuredIterations < 1) {
+      throw new IllegalArgumentException("A benchmark needs at least one measured iteration, "
+          + "and no negative warmup, but had " + warmupIterations + " warmup and "
+          + measuredIterations + " measured");
+    }
+    this.warmupIterations = warmupIterations;
+    this.measuredIterations = measuredIterations;
+    this.minimumOpsPerSecond = minimumOpsPerSecond;
+  }
+
+  /**
+   * Provide the hook which runs a spec as this benchmark.
+   * @return the hook, to go around the spec's own block
+   */
+  public NonReportingHook hook() {
+    return nonReportingHookFrom((description, reporting, block) -> {
+      final Statistics statistics = measure(block);
+      statistics.writeTo(System.out, description);
+      if (statistics.opsPerSecond() < this.minimumOpsPerSecond) {
+        throw new AssertionError(String.format(Locale.ROOT,
+            "Benchmark throughput of %.1f ops/s is below the minimum of %.1f ops/s",
+            statistics.opsPerSecond(), this.minimumOpsPerSecond));
+      }
+    });
+  }
+
+  /**
+   * Run the block through warmup, then measure it.
+   * @param block to measure
+   * @return what was measured
+   * @throws Throwable the first failure of the block, which ends the benchmark
+   */
+  Statistics measure(final Block block) throws Throwable {
+    for (int iteration = 0; iteration < this.warmupIterations; iteration++) {
+      block.run();
+    }
+
+    final long[] latencies = new long[this.measuredIterations];
+    for (int iteration = 0; iteration < this.measuredIterations; iteration++) {
+      final long started = System.nanoTime();
+      block.run();
+      latencies[iteration] = System.nanoTime() - started;
+    }
+
+    return new Statistics(latencies);
+  }
+
+  /**
+   * The latencies measured by a benchmark, in nanoseconds.
+   */
+  static final class Statistics {
+    private final long[] sorted;
+    private final long total;
+
+    Statistics(final long[] latencies) {
+      this.sorted = latencies.clone();
+      Arrays.sort(this.sorted);
+      this.total = Arrays.stream(latencies).sum();
+    }
+
+    double opsPerSecond() {
+      // an iteration too quick for the clock counts as taking a nanosecond
+      return this.sorted.length * NANOS_PER_SECOND / Math.max(this.total, 1);
+    }
+
+    void writeTo(final PrintStream output, final Description description) {
+      output.println(String.format(Locale.ROOT,
+          "Benchmark %s: %.1f ops/s over %d iterations - latency mean %d ns, p50 %d ns, "
+              + "p90 %d ns, p99 %d ns, max %d ns",
+          description.getDisplayName(), opsPerSecond(), this.sorted.length,
+          this.total / this.sorted.length, RunTimings.percentile(this.sorted, 50),
+          RunTimings.percentile(this.sorted, 90), RunTimings.percentile(this.sorted, 99),
+          this.sorted[this.sorted.length - 1]));
+    }
+  }
+}
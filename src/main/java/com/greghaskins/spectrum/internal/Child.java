@@ -6,6 +6,8 @@ import com.greghaskins.spectrum.internal.configuration.TaggingFilterCriteria;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Sorter;
 import org.junit.runner.notification.Failure;
 
 public interface Child {
@@ -41,4 +43,27 @@ public interface Child {
   default boolean isLeaf() {
     return false;
   }
+
+  /**
+   * Called once declaration has finished, after which nothing more may be declared. Prepares
+   * this child, and anything below it, to be run - compiling its hooks and working out once
+   * anything which would otherwise be recalculated on every run.
+   */
+  default void freeze() {}
+
+  /**
+   * Remove anything below this child which the filter does not select. Only called once the
+   * tree is frozen, and only for children the filter has selected.
+   * @param filter which tests to keep
+   * @return true if the child still has something to run
+   */
+  default boolean filter(Filter filter) {
+    return true;
+  }
+
+  /**
+   * Put anything below this child into the order chosen by the sorter.
+   * @param sorter the ordering of tests
+   */
+  default void sort(Sorter sorter) {}
 }
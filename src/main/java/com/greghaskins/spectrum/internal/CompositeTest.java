@@ -3,6 +3,8 @@ package com.greghaskins.spectrum.internal;
 import com.greghaskins.spectrum.internal.configuration.TaggingFilterCriteria;
 
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Sorter;
 import org.junit.runner.notification.Failure;
 
 /**
@@ -26,6 +28,23 @@ final class CompositeTest extends Suite {
     return true;
   }
 
+  @Override
+  public void runChildrenInParallel(final int maxConcurrency) {
+    // the steps of a composite test depend on each other, so always run in order
+  }
+
+  @Override
+  public boolean filter(final Filter filter) {
+    // the steps only make sense together, so selecting any of them keeps them all
+
+    return true;
+  }
+
+  @Override
+  public void sort(final Sorter sorter) {
+    // the steps depend on each other, so always run in order
+  }
+
   private static void abortOnFailureChildRunner(final Suite suite,
       final RunReporting<Description, Failure> reporting) {
     FailureDetectingRunDecorator<Description, Failure> decoratedReporting =
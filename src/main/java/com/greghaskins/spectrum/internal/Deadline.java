@@ -0,0 +1,74 @@
+package com.greghaskins.spectrum.internal;
+
+import org.junit.runners.model.TestTimedOutException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time by which something has to finish, along with the budget of time it was
+ * given to get there.
+ */
+public final class Deadline {
+  public static final Deadline NONE = new Deadline(null, 0);
+
+  private final Duration budget;
+  private final long endNanoTime;
+
+  private Deadline(final Duration budget, final long endNanoTime) {
+    this.budget = budget;
+    this.endNanoTime = endNanoTime;
+  }
+
+  /**
+   * Create a deadline the budget from now.
+   * @param budget how long there is until the deadline
+   * @return the deadline
+   */
+  public static Deadline after(final Duration budget) {
+    return new Deadline(budget, System.nanoTime() + budget.toNanos());
+  }
+
+  /**
+   * Whichever of this and the other deadline comes first.
+   * @param other deadline to compare with
+   * @return the earlier deadline
+   */
+  public Deadline earlierOf(final Deadline other) {
+    if (!other.isSet()) {
+      return this;
+    } else if (!isSet()) {
+      return other;
+    }
+
+    return other.endNanoTime - this.endNanoTime < 0 ? other : this;
+  }
+
+  public boolean isSet() {
+    return this.budget != null;
+  }
+
+  public boolean hasPassed() {
+    return isSet() && remainingNanos() <= 0;
+  }
+
+  /**
+   * How long is left before the deadline.
+   * @return the remaining time - zero if the deadline has passed
+   */
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, remainingNanos()));
+  }
+
+  /**
+   * The error for something which didn't finish by the deadline.
+   * @return an exception describing the budget that ran out
+   */
+  public TestTimedOutException timedOut() {
+    return new TestTimedOutException(this.budget.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private long remainingNanos() {
+    return this.endNanoTime - System.nanoTime();
+  }
+}
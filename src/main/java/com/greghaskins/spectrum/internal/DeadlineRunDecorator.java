@@ -0,0 +1,48 @@
+package com.greghaskins.spectrum.internal;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Reporting for something being stopped at a deadline. Once the deadline has passed, the
+ * failures caused by stopping it - such as being interrupted - are not reported, since
+ * running out of time is reported in their place.
+ */
+class DeadlineRunDecorator<T, F> implements RunReporting<T, F> {
+  private final RunReporting<T, F> decoratee;
+  private final BooleanSupplier deadlineHasPassed;
+
+  DeadlineRunDecorator(final RunReporting<T, F> decoratee,
+      final BooleanSupplier deadlineHasPassed) {
+    this.decoratee = decoratee;
+    this.deadlineHasPassed = deadlineHasPassed;
+  }
+
+  @Override
+  public void fireTestFailure(final F failure) {
+    if (!this.deadlineHasPassed.getAsBoolean()) {
+      this.decoratee.fireTestFailure(failure);
+    }
+  }
+
+  @Override
+  public void fireTestIgnored(final T description) {
+    this.decoratee.fireTestIgnored(description);
+  }
+
+  @Override
+  public void fireTestStarted(final T description) {
+    this.decoratee.fireTestStarted(description);
+  }
+
+  @Override
+  public void fireTestFinished(final T description) {
+    this.decoratee.fireTestFinished(description);
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final F failure) {
+    if (!this.deadlineHasPassed.getAsBoolean()) {
+      this.decoratee.fireTestAssumptionFailed(failure);
+    }
+  }
+}
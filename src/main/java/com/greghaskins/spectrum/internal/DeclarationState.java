@@ -1,13 +1,17 @@
 package com.greghaskins.spectrum.internal;
 
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
 import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
 import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
 
+import org.junit.runner.Description;
+
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Iterator;
 
 public final class DeclarationState {
 
@@ -26,6 +30,36 @@ public final class DeclarationState {
     return suiteStack.peek();
   }
 
+  public Suite getRootSuiteBeingDeclared() {
+    return suiteStack.peekLast();
+  }
+
+  /**
+   * The path of a spec or suite being declared in the current suite, as {@link RunHistory}
+   * knows it.
+   *
+   * @param child the description of the spec or suite
+   * @return its path, from the test class down
+   */
+  public String pathOf(final Description child) {
+    return RunHistory.pathOf(pathOfCurrentSuite(), child);
+  }
+
+  /**
+   * The path of the suite being declared, as {@link RunHistory} knows it.
+   *
+   * @return its path, from the test class down
+   */
+  public String pathOfCurrentSuite() {
+    final Iterator<Suite> outermostFirst = suiteStack.descendingIterator();
+    String path = outermostFirst.next().getDisplayName();
+    while (outermostFirst.hasNext()) {
+      path = RunHistory.pathOf(path, outermostFirst.next().getDisplayName());
+    }
+
+    return path;
+  }
+
   private int getCurrentDepth() {
     return suiteStack.size();
   }
@@ -44,6 +78,21 @@ public final class DeclarationState {
     suiteStack.pop();
   }
 
+  /**
+   * Declare the contents of a suite. When the {@value Configure#PRUNE_IGNORED_PROPERTY} system
+   * property is set, a suite which is already ignored - by its tags or otherwise - is left
+   * empty instead. Its block is never run, and it is reported as a single ignored node.
+   *
+   * @param suite the suite being declared
+   * @param definitionBlock the block which declares its contents
+   */
+  public void declareSuite(final Suite suite, final Block definitionBlock) {
+    if (suite.isIgnored() && Boolean.getBoolean(Configure.PRUNE_IGNORED_PROPERTY)) {
+      return;
+    }
+    beginDeclaration(suite, definitionBlock);
+  }
+
   public void addHook(final Hook hook, final AppliesTo appliesTo, final Precedence precedence) {
     addHook(new HookContext(hook, instance().getCurrentDepth(), appliesTo, precedence));
   }
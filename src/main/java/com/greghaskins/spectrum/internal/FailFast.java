@@ -0,0 +1,82 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Configure;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stops a run once enough specs have failed. Specs which have not started by then are reported
+ * as ignored, without running them or their hooks.
+ */
+public final class FailFast {
+  private static final ConcurrentHashMap<Integer, FailFast> fromSystemProperty =
+      new ConcurrentHashMap<>();
+
+  private final int maxFailures;
+  private final Set<Description> failed = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Create the policy.
+   * @param maxFailures how many specs may fail before the run stops
+   */
+  public FailFast(final int maxFailures) {
+    if (maxFailures < 1) {
+      throw new IllegalArgumentException("Failures must be at least 1, but was " + maxFailures);
+    }
+    this.maxFailures = maxFailures;
+  }
+
+  /**
+   * Provide the policy requested by {@link Configure#FAIL_FAST_PROPERTY}, if any. This is
+   * shared by every test class in the JVM, so that the first failures stop the whole run.
+   * @return the policy to apply to the root suite, or empty when the property is not set
+   */
+  public static Optional<FailFast> fromSystemProperty() {
+    return Optional.ofNullable(System.getProperty(Configure.FAIL_FAST_PROPERTY))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty() && !value.equalsIgnoreCase("false"))
+        .map(FailFast::parse)
+        .map(maxFailures -> fromSystemProperty.computeIfAbsent(maxFailures, FailFast::new));
+  }
+
+  private static int parse(final String value) {
+    if (value.equalsIgnoreCase("true")) {
+      return 1;
+    }
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException notANumber) {
+      throw new IllegalArgumentException(Configure.FAIL_FAST_PROPERTY
+          + " must be true, false or a whole number, but was \"" + value + "\"", notANumber);
+    }
+  }
+
+  /**
+   * Have enough specs failed to stop the run.
+   * @return true once no more specs should start
+   */
+  public boolean hasStopped() {
+    return this.failed.size() >= this.maxFailures;
+  }
+
+  /**
+   * Count the failures reported.
+   * @param reporting where the failures are reported
+   * @return reporting which counts failures towards this policy
+   */
+  RunReporting<Description, Failure> counting(final RunReporting<Description, Failure> reporting) {
+    return new FailureDetectingRunDecorator<Description, Failure>(reporting) {
+      @Override
+      public void fireTestFailure(final Failure failure) {
+        // the same spec may report failures at several levels, but only counts once
+        FailFast.this.failed.add(failure.getDescription());
+        super.fireTestFailure(failure);
+      }
+    };
+  }
+}
@@ -4,7 +4,7 @@ package com.greghaskins.spectrum.internal;
  * A listener to detect test failure.
  */
 public class FailureDetectingRunDecorator<T, F> implements RunReporting<T, F> {
-  private boolean hasFailedYet = false;
+  private volatile boolean hasFailedYet = false;
 
   private RunReporting<T, F> decoratee;
 
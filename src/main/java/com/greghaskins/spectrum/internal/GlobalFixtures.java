@@ -0,0 +1,188 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.ThrowingSupplier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Fixtures shared by every test class in the JVM, known by a key. The fixture is created when
+ * first used, and closed, if it is {@link AutoCloseable}, when the JVM shuts down. Build tools
+ * create each test class's runner just before running it, so no test class may hold the fixture
+ * between one test class and the next - it is kept all the same, so that it is started once per
+ * JVM rather than once per test class.
+ *
+ * <p>Each test class which declares a fixture holds a reference to it until it has finished
+ * running. Set the {@value Configure#GLOBAL_FIXTURES_KEEP_ALIVE_PROPERTY} system property to
+ * {@code false} to close a fixture as soon as the last test class holding it has finished.
+ */
+public final class GlobalFixtures {
+  private static final ConcurrentHashMap<String, Fixture<?>> fixtures = new ConcurrentHashMap<>();
+
+  // how each test class gives back the references it holds, by its root suite
+  private static final Map<Suite, List<Block>> releases =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  static {
+    Runtime.getRuntime().addShutdownHook(
+        new Thread(GlobalFixtures::closeAll, "spectrum-global-fixtures"));
+  }
+
+  private GlobalFixtures() {}
+
+  /**
+   * Take a reference to the fixture for the test class being declared, creating the fixture if
+   * nobody holds it. The reference is given up when the test class finishes running - see
+   * {@link #release(Suite)}.
+   * @param key the name the fixture is shared by
+   * @param supplier creates the fixture, if it isn't there already
+   * @param <T> the type of the fixture
+   * @return supplier of the fixture
+   */
+  public static <T> Supplier<T> acquire(final String key, final ThrowingSupplier<T> supplier) {
+    final Suite root = DeclarationState.instance().getRootSuiteBeingDeclared();
+    if (root == null) {
+      throw new IllegalStateException("A globalFixture() may only be declared in a suite "
+          + "declaration, not while specs are running.");
+    }
+    final Fixture<T> fixture = reference(key, supplier);
+    releases.computeIfAbsent(root, testClass -> new ArrayList<>())
+        .add(releasing(key, fixture));
+
+    return fixture;
+  }
+
+  /**
+   * Give up the references a test class holds, closing any fixture nobody else holds. Call this
+   * once the test class has finished running - whether or not it had any specs to run.
+   * @param root the root suite of the test class
+   * @throws Throwable the failure to close the first fixture which couldn't be closed, with the
+   *         failures of any others suppressed
+   */
+  public static void release(final Suite root) throws Throwable {
+    final List<Block> heldByTestClass = releases.remove(root);
+    if (heldByTestClass == null) {
+      return;
+    }
+
+    Throwable firstFailure = null;
+    for (final Block release : heldByTestClass) {
+      try {
+        release.run();
+      } catch (final Throwable closeFailed) {
+        if (firstFailure == null) {
+          firstFailure = closeFailed;
+        } else {
+          firstFailure.addSuppressed(closeFailed);
+        }
+      }
+    }
+    if (firstFailure != null) {
+      throw firstFailure;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Fixture<T> reference(final String key, final ThrowingSupplier<T> supplier) {
+    return (Fixture<T>) fixtures.compute(key, (name, existing) -> {
+      final Fixture<?> fixture = existing == null ? new Fixture<>(supplier) : existing;
+      fixture.references++;
+
+      return fixture;
+    });
+  }
+
+  private static Block releasing(final String key, final Fixture<?> fixture) {
+    return () -> {
+      final boolean keepAlive = !"false".equalsIgnoreCase(
+          System.getProperty(Configure.GLOBAL_FIXTURES_KEEP_ALIVE_PROPERTY));
+      final boolean[] lastReference = new boolean[1];
+      fixtures.computeIfPresent(key, (name, existing) -> {
+        if (existing != fixture) {
+          return existing;
+        }
+        fixture.references--;
+        lastReference[0] = fixture.references == 0 && !keepAlive;
+
+        return lastReference[0] ? null : fixture;
+      });
+      if (lastReference[0]) {
+        fixture.close();
+      }
+    };
+  }
+
+  private static void closeAll() {
+    new ArrayList<>(fixtures.keySet()).forEach(key -> {
+      final Fixture<?> fixture = fixtures.remove(key);
+      if (fixture != null) {
+        try {
+          fixture.close();
+        } catch (final Exception ignoredAtShutdown) {
+          // nothing is left to report it to
+        }
+      }
+    });
+  }
+
+  /**
+   * One fixture, created at most once. A failure to create it is remembered, so that broken
+   * infrastructure isn't started again for every spec.
+   */
+  private static final class Fixture<T> implements Supplier<T> {
+    private final ThrowingSupplier<T> supplier;
+    private int references;
+    private boolean created;
+    private boolean closed;
+    private T value;
+    private RuntimeException failure;
+    private Error error;
+
+    Fixture(final ThrowingSupplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public synchronized T get() {
+      if (this.closed) {
+        throw new IllegalStateException("The global fixture has been closed. "
+            + "It may only be used while the test class which declares it is running.");
+      }
+      if (!this.created) {
+        this.created = true;
+        try {
+          this.value = this.supplier.get();
+        } catch (final RuntimeException supplierFailed) {
+          this.failure = supplierFailed;
+        } catch (final Error supplierFailed) {
+          this.error = supplierFailed;
+        }
+      }
+      if (this.failure != null) {
+        throw this.failure;
+      }
+      if (this.error != null) {
+        throw this.error;
+      }
+
+      return this.value;
+    }
+
+    synchronized void close() throws Exception {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+      if (this.value instanceof AutoCloseable) {
+        ((AutoCloseable) this.value).close();
+      }
+    }
+  }
+}
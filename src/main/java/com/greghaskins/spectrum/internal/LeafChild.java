@@ -13,4 +13,16 @@ public interface LeafChild extends Child {
    * @param precedence precedence, for sorting hooks into order
    */
   void addLeafHook(NonReportingHook leafHook, HookContext.Precedence precedence);
+
+  /**
+   * Run the leaf over and over, with its hooks, as a single test.
+   * @param repetition how to repeat it
+   */
+  void repeat(Repetition repetition);
+
+  /**
+   * How the leaf is repeated.
+   * @return the repetition, or null if the leaf runs once
+   */
+  Repetition getRepetition();
 }
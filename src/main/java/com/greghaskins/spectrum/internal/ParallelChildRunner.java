@@ -0,0 +1,78 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Suite.ChildRunner} which runs the children of a suite concurrently on a
+ * work-stealing pool. At most {@code maxConcurrency} children of the suite are in flight at
+ * once. Nested suites which also run in parallel share the pool of the outermost parallel
+ * suite, so the outermost limit bounds the whole subtree.
+ */
+final class ParallelChildRunner implements Suite.ChildRunner {
+  private final int maxConcurrency;
+
+  /**
+   * Construct the runner.
+   * @param maxConcurrency the most children of a suite that may run at once
+   */
+  ParallelChildRunner(final int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  @Override
+  public void runChildren(final Suite suite, final RunReporting<Description, Failure> reporting) {
+    final List<ForkJoinTask<?>> lanes = lanesFor(suite, reporting);
+    if (Thread.currentThread() instanceof Worker) {
+      ForkJoinTask.invokeAll(lanes);
+
+      return;
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(this.maxConcurrency, Worker::new, null, false);
+    try {
+      pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(lanes)));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Each lane takes the next child that nobody else has started until there are none left.
+   * Using one lane per unit of concurrency bounds this suite, however big its pool.
+   */
+  private List<ForkJoinTask<?>> lanesFor(final Suite suite,
+      final RunReporting<Description, Failure> reporting) {
+    final List<Child> children = suite.children;
+    final AtomicInteger next = new AtomicInteger();
+    final Runnable lane = ExecutionContext.inThisContext(() -> {
+      for (int index = next.getAndIncrement(); index < children.size();
+          index = next.getAndIncrement()) {
+        suite.runChild(children.get(index), reporting);
+      }
+    });
+
+    return IntStream.range(0, Math.min(this.maxConcurrency, children.size()))
+        .mapToObj(laneNumber -> ForkJoinTask.adapt(lane))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Marks the threads belonging to a pool created by this runner.
+   */
+  private static final class Worker extends ForkJoinWorkerThread {
+    private Worker(final ForkJoinPool pool) {
+      super(pool);
+    }
+  }
+}
@@ -10,6 +10,29 @@ public interface Parent {
 
   Hooks getInheritableHooks();
 
+  /**
+   * Called when the children of a child have changed after the tree was frozen, so that
+   * anything worked out from them can be brought up to date.
+   * @param child the child whose children changed
+   */
+  default void childChanged(Child child) {}
+
+  /**
+   * When the children have to finish by.
+   * @return the deadline of the running parent, or {@link Deadline#NONE}
+   */
+  default Deadline getDeadline() {
+    return Deadline.NONE;
+  }
+
+  /**
+   * Has the run been stopped by failures, so that no more children should start.
+   * @return true if the remaining children are to be skipped
+   */
+  default boolean isStoppedByFailures() {
+    return false;
+  }
+
   Parent NONE = new Parent() {
     @Override
     public void focus(final Child child) {}
@@ -0,0 +1,169 @@
+package com.greghaskins.spectrum.internal;
+
+import static com.greghaskins.spectrum.internal.hooks.NonReportingHook.nonReportingHookFrom;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.hooks.NonReportingHook;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fails specs which have become slower than they used to be. The first time a spec runs, the
+ * median of its durations over several repetitions is recorded as its baseline, in the file
+ * named by the {@value Configure#BASELINE_PROPERTY} system property. On later runs, the spec
+ * fails when its median is more than the tolerance slower than the baseline. Set the
+ * {@value Configure#BASELINE_UPDATE_PROPERTY} system property to {@code true} to record new
+ * baselines instead of checking against the old ones.
+ *
+ * <p>Specs are known by their path, as in the {@link RunHistory}. Test JVMs running at the same
+ * time may share the file: each adds the baselines it records to those already there, while
+ * holding a lock so that none of them loses another's, and replaces the file in one step, so
+ * none of them reads it half-written.
+ */
+public final class PerformanceBaseline {
+  public static final String DEFAULT_FILE = "spectrum-baseline.txt";
+
+  private static final String HEADER = "spectrum-baseline 1";
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private static final ConcurrentHashMap<Path, Baselines> files = new ConcurrentHashMap<>();
+
+  private final double tolerance;
+  private final int repetitions;
+
+  /**
+   * Create the gate.
+   * @param tolerance how much slower than its baseline a spec may be, as a fraction - 0.2 allows
+   *        it to take 20% longer
+   * @param repetitions how many times to run the spec to find its median duration
+   */
+  public PerformanceBaseline(final double tolerance, final int repetitions) {
+    if (tolerance < 0 || repetitions < 1) {
+      throw new IllegalArgumentException("A performance baseline needs a tolerance of at least 0 "
+          + "and at least one repetition, but had " + tolerance + " and " + repetitions);
+    }
+    this.tolerance = tolerance;
+    this.repetitions = repetitions;
+  }
+
+  /**
+   * Provide the hook which checks a spec against its baseline.
+   * @param path the path of the spec
+   * @return the hook, to go around the spec's own block
+   */
+  public NonReportingHook hook(final String path) {
+    return nonReportingHookFrom((description, reporting, block) -> {
+      final long median = medianDuration(block);
+      final Baselines baselines = fromSystemProperty();
+      final Optional<Long> baseline = baselines.of(path);
+      if (!baseline.isPresent() || Boolean.getBoolean(Configure.BASELINE_UPDATE_PROPERTY)) {
+        baselines.record(path, median);
+      } else if (median > baseline.get() * (1 + this.tolerance)) {
+        throw new AssertionError(String.format(Locale.ROOT,
+            "Median duration of %.3f ms is more than %.0f%% slower than the baseline of %.3f ms",
+            median / NANOS_PER_MILLI, this.tolerance * 100, baseline.get() / NANOS_PER_MILLI));
+      }
+    });
+  }
+
+  private long medianDuration(final Block block) throws Throwable {
+    final long[] durations = new long[this.repetitions];
+    for (int repetition = 0; repetition < this.repetitions; repetition++) {
+      final long started = System.nanoTime();
+      block.run();
+      durations[repetition] = System.nanoTime() - started;
+    }
+    Arrays.sort(durations);
+
+    return durations[(durations.length - 1) / 2];
+  }
+
+  private static Baselines fromSystemProperty() {
+    final Path file = Paths.get(System.getProperty(Configure.BASELINE_PROPERTY, DEFAULT_FILE))
+        .toAbsolutePath();
+
+    return files.computeIfAbsent(file, Baselines::load);
+  }
+
+  /**
+   * The baselines in one file. This is loaded once and shared by every test class in the JVM.
+   */
+  private static final class Baselines {
+    private final Path file;
+    private final Map<String, Long> medians;
+    private final Map<String, Long> recorded = new HashMap<>();
+
+    private Baselines(final Path file, final Map<String, Long> medians) {
+      this.file = file;
+      this.medians = medians;
+    }
+
+    static Baselines load(final Path file) {
+      return new Baselines(file, read(file));
+    }
+
+    private static Map<String, Long> read(final Path file) {
+      final Map<String, Long> medians = new TreeMap<>();
+      if (!Files.exists(file)) {
+        return medians;
+      }
+      try {
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(HEADER)) {
+          throw new IllegalArgumentException("Not a performance baseline file: " + file);
+        }
+        lines.stream().skip(1).map(line -> line.split("\t", 2))
+            .filter(fields -> fields.length == 2)
+            .forEach(fields -> medians.put(fields[1], Long.parseLong(fields[0])));
+
+        return medians;
+      } catch (final IOException | RuntimeException unreadable) {
+        // baselines which can't be read are recorded afresh, as if they had never been
+        return new TreeMap<>();
+      }
+    }
+
+    synchronized Optional<Long> of(final String path) {
+      return Optional.ofNullable(this.medians.get(path));
+    }
+
+    /**
+     * Record the baseline of a spec, and write the file straight away, so that it survives
+     * however the run ends.
+     */
+    synchronized void record(final String path, final long median) {
+      this.medians.put(path, median);
+      this.recorded.put(path, median);
+      try {
+        AtomicFiles.update(this.file, () -> {
+          // keep whatever other test JVMs have recorded in the meantime
+          final Map<String, Long> merged = new TreeMap<>(this.medians);
+          merged.putAll(read(this.file));
+          merged.putAll(this.recorded);
+          final List<String> lines = new ArrayList<>();
+          lines.add(HEADER);
+          merged.forEach((spec, nanos) -> lines.add(nanos + "\t" + spec));
+          AtomicFiles.replace(this.file, lines);
+        });
+      } catch (final IOException ioException) {
+        throw new UncheckedIOException("Could not write the performance baselines to "
+            + this.file, ioException);
+      }
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package com.greghaskins.spectrum.internal;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Runs a spec over and over, with all of its hooks each time, as a single test - either a number
+ * of times, or for as long as a soak test lasts. The failures of the iterations are gathered up
+ * rather than reported one by one. Once all the iterations have run, the number of failures and
+ * the distribution of their durations are written to the test output, and the spec fails with
+ * the first failure if any iteration failed. An iteration whose assumption fails stops the
+ * repetition, as the spec can't be meaningfully run any more.
+ *
+ * <p>However long a soak lasts, only a fixed-size random sample of the durations is kept, and
+ * the percentiles are taken from that.
+ */
+public final class Repetition {
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  static final int SAMPLE_SIZE = 10_000;
+
+  private final int times;
+  private final Duration soak;
+
+  private Repetition(final int times, final Duration soak) {
+    this.times = times;
+    this.soak = soak;
+  }
+
+  /**
+   * Run a spec a number of times.
+   * @param times how many times to run it
+   * @return the repetition
+   */
+  public static Repetition times(final int times) {
+    if (times < 1) {
+      throw new IllegalArgumentException("A spec must be repeated at least once, but was " + times);
+    }
+
+    return new Repetition(times, null);
+  }
+
+  /**
+   * Run a spec over and over until the time is up. It runs at least once, and an iteration
+   * which has started is allowed to finish.
+   * @param soak how long to keep running it
+   * @return the repetition
+   */
+  public static Repetition lasting(final Duration soak) {
+    if (soak.isNegative() || soak.isZero()) {
+      throw new IllegalArgumentException("A soak must last some time, but was " + soak);
+    }
+
+    return new Repetition(Integer.MAX_VALUE, soak);
+  }
+
+  /**
+   * Run the iterations, and report their outcome.
+   * @param description the spec
+   * @param reporting where to report the outcome of the iterations taken together
+   * @param iteration runs the spec once, with its hooks, reporting to the reporting it is given
+   * @throws Throwable the failure of the spec, if any iteration failed
+   */
+  void run(final Description description, final RunReporting<Description, Failure> reporting,
+      final Consumer<RunReporting<Description, Failure>> iteration) throws Throwable {
+    final long soakEnds = this.soak == null ? 0 : System.nanoTime() + this.soak.toNanos();
+    final Outcome outcome = new Outcome(reporting);
+    final Durations durations = new Durations(Math.min(this.times, SAMPLE_SIZE));
+    do {
+      outcome.iteration = durations.count + 1;
+      final long started = System.nanoTime();
+      iteration.accept(outcome);
+      durations.add(System.nanoTime() - started);
+    } while (durations.count < this.times && !outcome.assumptionFailed
+        && (this.soak == null || System.nanoTime() - soakEnds < 0));
+    outcome.conclude();
+
+    write(System.out, description, outcome, durations);
+    if (outcome.firstFailure != null) {
+      throw new AssertionError(String.format(Locale.ROOT,
+          "%d of %d iterations failed, first at iteration %d: %s", outcome.failures,
+          durations.count,
+          outcome.firstFailedIteration, outcome.firstFailure.getMessage()),
+          outcome.firstFailure.getException());
+    }
+  }
+
+  private static void write(final PrintStream output, final Description description,
+      final Outcome outcome, final Durations durations) {
+    final long[] sample = durations.sorted();
+    output.println(String.format(Locale.ROOT,
+        "Repeated %s: %d iterations, %d failed - duration mean %.3f ms, p50 %.3f ms, "
+            + "p90 %.3f ms, p99 %.3f ms, max %.3f ms",
+        description.getDisplayName(), durations.count, outcome.failures,
+        (double) durations.total / durations.count / NANOS_PER_MILLI,
+        RunTimings.percentile(sample, 50) / NANOS_PER_MILLI,
+        RunTimings.percentile(sample, 90) / NANOS_PER_MILLI,
+        RunTimings.percentile(sample, 99) / NANOS_PER_MILLI,
+        durations.max / NANOS_PER_MILLI));
+  }
+
+  /**
+   * The durations of the iterations - every one of them up to the size of the sample, and a
+   * uniform random sample of them beyond that, so a long soak uses no more memory than a short
+   * one.
+   */
+  static final class Durations {
+    private final long[] sample;
+    long count;
+    long total;
+    long max;
+
+    Durations(final int sampleSize) {
+      this.sample = new long[sampleSize];
+    }
+
+    void add(final long duration) {
+      if (this.count < this.sample.length) {
+        this.sample[(int) this.count] = duration;
+      } else {
+        // reservoir sampling: the nth duration replaces one in the sample with chance size / n
+        final long slot = ThreadLocalRandom.current().nextLong(this.count + 1);
+        if (slot < this.sample.length) {
+          this.sample[(int) slot] = duration;
+        }
+      }
+      this.count++;
+      this.total += duration;
+      this.max = Math.max(this.max, duration);
+    }
+
+    long[] sorted() {
+      final long[] sorted =
+          Arrays.copyOf(this.sample, (int) Math.min(this.count, this.sample.length));
+      Arrays.sort(sorted);
+
+      return sorted;
+    }
+  }
+
+  /**
+   * Gathers the failures of the iterations, passing everything else on. An iteration which
+   * fails in several places counts once. Failures reported once the iterations are over - by a
+   * value closed in the background, say - are passed on too, as they can no longer be gathered.
+   */
+  private static final class Outcome extends FailureDetectingRunDecorator<Description, Failure> {
+    private boolean concluded;
+    boolean assumptionFailed;
+    long iteration;
+    long failures;
+    long lastFailedIteration;
+    long firstFailedIteration;
+    Failure firstFailure;
+
+    Outcome(final RunReporting<Description, Failure> decoratee) {
+      super(decoratee);
+    }
+
+    synchronized void conclude() {
+      this.concluded = true;
+    }
+
+    @Override
+    public synchronized void fireTestFailure(final Failure failure) {
+      if (this.concluded) {
+        super.fireTestFailure(failure);
+
+        return;
+      }
+      if (this.firstFailure == null) {
+        this.firstFailure = failure;
+        this.firstFailedIteration = this.iteration;
+      }
+      if (this.lastFailedIteration != this.iteration) {
+        this.lastFailedIteration = this.iteration;
+        this.failures++;
+      }
+    }
+
+    @Override
+    public void fireTestAssumptionFailed(final Failure failure) {
+      if (!this.assumptionFailed) {
+        this.assumptionFailed = true;
+        super.fireTestAssumptionFailed(failure);
+      }
+    }
+  }
+}
@@ -0,0 +1,329 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Configure;
+
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.Failure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * The outcome and duration of each spec in previous runs, kept in the file named by the
+ * {@value Configure#HISTORY_PROPERTY} system property. Specs are known by their path: the names
+ * of the test class, the suites and the spec itself.
+ *
+ * <p>The history can reorder a run, as requested by {@value Configure#ORDER_PROPERTY}:
+ * <ul>
+ *   <li>{@value #FAILING_FIRST} - the specs which failed most recently run first</li>
+ *   <li>{@value #LONGEST_FIRST} - the slowest specs run first, which packs parallel runs better</li>
+ * </ul>
+ * Suites move along with the specs inside them, and the steps of a scenario stay in order.
+ */
+public final class RunHistory {
+  public static final String FAILING_FIRST = "failing-first";
+  public static final String LONGEST_FIRST = "longest-first";
+
+  private static final String HEADER = "spectrum-history";
+  private static final String SEPARATOR = " / ";
+
+  private static final ConcurrentHashMap<Path, RunHistory> fromSystemProperty =
+      new ConcurrentHashMap<>();
+
+  private final Path file;
+  private final int run;
+  private final Map<String, Outcome> previousRuns;
+  private final ConcurrentMap<String, Outcome> outcomes;
+  private final ConcurrentMap<String, Outcome> recorded = new ConcurrentHashMap<>();
+
+  private RunHistory(final Path file, final int previousRun, final Map<String, Outcome> outcomes) {
+    this.file = file;
+    this.run = previousRun + 1;
+    this.previousRuns = Collections.unmodifiableMap(new HashMap<>(outcomes));
+    this.outcomes = new ConcurrentHashMap<>(outcomes);
+  }
+
+  /**
+   * Provide the history named by {@link Configure#HISTORY_PROPERTY}, if any. This is loaded
+   * once and shared by every test class in the JVM, which together make one run.
+   * @return the history, or empty when the property is not set
+   */
+  public static Optional<RunHistory> fromSystemProperty() {
+    return Optional.ofNullable(System.getProperty(Configure.HISTORY_PROPERTY))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .map(value -> Paths.get(value).toAbsolutePath())
+        .map(path -> fromSystemProperty.computeIfAbsent(path, RunHistory::load));
+  }
+
+  private static RunHistory load(final Path file) {
+    if (!Files.exists(file)) {
+      return new RunHistory(file, 0, new ConcurrentHashMap<>());
+    }
+    try {
+      final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+      final Map<String, Outcome> outcomes = new ConcurrentHashMap<>();
+      lines.stream().skip(1).map(line -> line.split("\t", 3))
+          .filter(fields -> fields.length == 3)
+          .forEach(fields -> outcomes.put(fields[2],
+              new Outcome(Long.parseLong(fields[0]), Integer.parseInt(fields[1]))));
+
+      return new RunHistory(file, previousRun(lines), outcomes);
+    } catch (final IOException | RuntimeException unreadable) {
+      // a history which can't be read is only a missed optimisation, so start afresh
+      return new RunHistory(file, 0, new ConcurrentHashMap<>());
+    }
+  }
+
+  private static int previousRun(final List<String> lines) {
+    final String[] header = lines.isEmpty() ? new String[0] : lines.get(0).split(" ");
+    if (header.length != 2 || !header[0].equals(HEADER)) {
+      throw new IllegalArgumentException("Not a history file");
+    }
+
+    return Integer.parseInt(header[1]);
+  }
+
+  /**
+   * How long the spec took when it last ran, before this run. This doesn't change during the
+   * run, so that it gives the same answer in every JVM sharing the history.
+   * @param path the path of the spec - see {@link #pathsOf(Description)}
+   * @return the duration in nanoseconds, or empty if the spec has not run before
+   */
+  public Optional<Long> durationOf(final String path) {
+    return Optional.ofNullable(this.previousRuns.get(path)).map(outcome -> outcome.nanos);
+  }
+
+  /**
+   * The ordering requested by {@link Configure#ORDER_PROPERTY}, if any.
+   * @param root the description of the test class to order
+   * @return a sorter for the test class, or empty to keep the declared order
+   */
+  public Optional<Sorter> ordering(final Description root) {
+    return Optional.ofNullable(System.getProperty(Configure.ORDER_PROPERTY))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .map(this::scoreFor)
+        .map(score -> new Sorter(
+            Comparator.comparingLong(new Scores(pathsOf(root), score)::of).reversed()));
+  }
+
+  private Scorer scoreFor(final String order) {
+    switch (order) {
+      case FAILING_FIRST:
+        return new Scorer(outcome -> outcome.lastFailedRun, scores -> scores.max().orElse(0));
+      case LONGEST_FIRST:
+        return new Scorer(outcome -> outcome.nanos, LongStream::sum);
+      default:
+        throw new IllegalArgumentException(Configure.ORDER_PROPERTY + " must be "
+            + FAILING_FIRST + " or " + LONGEST_FIRST + ", but was \"" + order + "\"");
+    }
+  }
+
+  /**
+   * Record the outcome and duration of each spec which runs.
+   * @param root the description of the test class being run
+   * @param reporting where the specs are reported
+   * @return reporting which also records the history
+   */
+  public RunReporting<Description, Failure> recording(final Description root,
+      final RunReporting<Description, Failure> reporting) {
+    final Map<Description, String> paths = pathsOf(root);
+    final ConcurrentMap<String, Long> started = new ConcurrentHashMap<>();
+    final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+    return new FailureDetectingRunDecorator<Description, Failure>(reporting) {
+      @Override
+      public void fireTestStarted(final Description description) {
+        Optional.ofNullable(paths.get(description))
+            .ifPresent(path -> started.put(path, System.nanoTime()));
+        super.fireTestStarted(description);
+      }
+
+      @Override
+      public void fireTestFailure(final Failure failure) {
+        Optional.ofNullable(paths.get(failure.getDescription())).ifPresent(failed::add);
+        super.fireTestFailure(failure);
+      }
+
+      @Override
+      public void fireTestFinished(final Description description) {
+        super.fireTestFinished(description);
+        Optional.ofNullable(paths.get(description)).ifPresent(path -> {
+          final Long startedAt = started.remove(path);
+          if (startedAt != null) {
+            record(path, System.nanoTime() - startedAt, failed.remove(path));
+          }
+        });
+      }
+    };
+  }
+
+  private void record(final String path, final long nanos, final boolean failed) {
+    this.recorded.put(path, this.outcomes.compute(path, (key, previous) -> new Outcome(nanos,
+        failed ? this.run : previous == null ? 0 : previous.lastFailedRun)));
+  }
+
+  /**
+   * Write the history, including this run so far, replacing what was there in one step, so that
+   * a test JVM reading it at the same time never sees it half-written. Other test JVMs sharing
+   * the file may have written it since it was loaded, so only the specs which ran in this JVM
+   * are updated, and the rest are kept as they are in the file. The file is locked meanwhile, so
+   * that no other test JVM writes it in between.
+   *
+   * <p>Test JVMs which loaded the history at the same time are taken to be part of the same
+   * run, so they share its number, and the number never goes back.
+   */
+  public synchronized void write() {
+    try {
+      AtomicFiles.update(this.file, () -> AtomicFiles.replace(this.file, merged()));
+    } catch (final IOException ioException) {
+      throw new UncheckedIOException("Could not write the run history to " + this.file,
+          ioException);
+    }
+  }
+
+  private List<String> merged() {
+    final RunHistory written = load(this.file);
+    final Map<String, Outcome> merged = new TreeMap<>(this.previousRuns);
+    merged.putAll(written.previousRuns);
+    // a failure recorded by another test JVM is remembered even if the spec passed here
+    this.recorded.forEach((path, outcome) -> merged.merge(path, outcome,
+        (other, ours) -> new Outcome(ours.nanos, Math.max(other.lastFailedRun,
+            ours.lastFailedRun))));
+    final List<String> lines = new ArrayList<>();
+    lines.add(HEADER + " " + Math.max(this.run, written.run - 1));
+    merged.forEach((path, outcome) ->
+        lines.add(outcome.nanos + "\t" + outcome.lastFailedRun + "\t" + path));
+
+    return lines;
+  }
+
+  /**
+   * Find the path of every spec in a test class. The same spec name can appear in more than one
+   * suite, so the descriptions are told apart by identity.
+   * @param root the description of the test class
+   * @return the path of each spec's description
+   */
+  public static Map<Description, String> pathsOf(final Description root) {
+    final Map<Description, String> paths = new IdentityHashMap<>();
+    addPaths(root, root.getDisplayName(), paths);
+
+    return paths;
+  }
+
+  private static void addPaths(final Description description, final String path,
+      final Map<Description, String> paths) {
+    for (final Description child : description.getChildren()) {
+      if (child.isTest()) {
+        paths.put(child, pathOf(path, child));
+      } else {
+        addPaths(child, pathOf(path, child), paths);
+      }
+    }
+  }
+
+  /**
+   * The path of a spec or suite.
+   * @param parentPath the path of the suite it belongs to
+   * @param description its description
+   * @return its path
+   */
+  static String pathOf(final String parentPath, final Description description) {
+    return pathOf(parentPath,
+        description.isTest() ? description.getMethodName() : description.getDisplayName());
+  }
+
+  /**
+   * The path of a spec or suite.
+   * @param parentPath the path of the suite it belongs to
+   * @param name the name of the suite, or of the spec without its suite
+   * @return its path
+   */
+  static String pathOf(final String parentPath, final String name) {
+    return parentPath + SEPARATOR + clean(name);
+  }
+
+  private static String clean(final String name) {
+    return String.valueOf(name).replaceAll("[\t\r\n]", " ");
+  }
+
+  /**
+   * What the history remembers of a spec.
+   */
+  private static final class Outcome {
+    final long nanos;
+    final int lastFailedRun;
+
+    Outcome(final long nanos, final int lastFailedRun) {
+      this.nanos = nanos;
+      this.lastFailedRun = lastFailedRun;
+    }
+  }
+
+  /**
+   * How to score specs and suites for an ordering - the highest score runs first.
+   */
+  private static final class Scorer {
+    final ToLongFunction<Outcome> ofSpec;
+    final ToLongFunction<LongStream> ofSuite;
+
+    Scorer(final ToLongFunction<Outcome> ofSpec, final ToLongFunction<LongStream> ofSuite) {
+      this.ofSpec = ofSpec;
+      this.ofSuite = ofSuite;
+    }
+  }
+
+  /**
+   * The scores of the descriptions in one test class. The descriptions of suites are rebuilt as
+   * they are sorted, so theirs are worked out from the specs inside them whenever asked for.
+   */
+  private final class Scores {
+    private final Map<Description, String> paths;
+    private final Scorer scorer;
+    private final Map<Description, Long> known = new IdentityHashMap<>();
+
+    Scores(final Map<Description, String> paths, final Scorer scorer) {
+      this.paths = paths;
+      this.scorer = scorer;
+    }
+
+    long of(final Description description) {
+      final Long score = this.known.get(description);
+      if (score != null) {
+        return score;
+      }
+      final long calculated = description.isTest() ? ofSpec(description)
+          : this.scorer.ofSuite.applyAsLong(
+              description.getChildren().stream().mapToLong(this::of));
+      this.known.put(description, calculated);
+
+      return calculated;
+    }
+
+    private long ofSpec(final Description description) {
+      final Outcome outcome = outcomes.get(String.valueOf(this.paths.get(description)));
+
+      return outcome == null ? 0 : this.scorer.ofSpec.applyAsLong(outcome);
+    }
+  }
+}
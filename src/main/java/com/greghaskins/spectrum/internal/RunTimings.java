@@ -0,0 +1,295 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.ThrowingConsumer;
+import com.greghaskins.spectrum.ThrowingSupplier;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Measures how long specs and hooks take, attributed to the suite which declared them, and
+ * writes a JSON report of the percentiles per suite. Enabled by the
+ * {@value Configure#TIMING_REPORT_PROPERTY} system property, whose value is the report's path.
+ *
+ * <p>Suites are known by their path, as in the {@link RunHistory}, so suites with the same name
+ * in different places are kept apart.
+ *
+ * <p>Durations are measured with {@link System#nanoTime()}. Hooks are measured without the time
+ * spent in the block they run around, so an {@code aroundEach} is charged for its own work
+ * only. A {@code let} is charged for its supplier, whenever the spec first uses it.
+ */
+public final class RunTimings {
+  static final String SPEC = "spec";
+
+  private static final ConcurrentHashMap<Path, RunTimings> fromSystemProperty =
+      new ConcurrentHashMap<>();
+
+  private final Path report;
+  private final ConcurrentMap<String, ConcurrentMap<String, Durations>> bySuite =
+      new ConcurrentHashMap<>();
+
+  RunTimings(final Path report) {
+    this.report = report;
+  }
+
+  /**
+   * Provide the timings requested by {@link Configure#TIMING_REPORT_PROPERTY}, if any. These
+   * are shared by every test class in the JVM, so the report covers the whole run.
+   * @return the timings to record into, or empty when the property is not set
+   */
+  public static Optional<RunTimings> fromSystemProperty() {
+    return Optional.ofNullable(System.getProperty(Configure.TIMING_REPORT_PROPERTY))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .map(value -> Paths.get(value).toAbsolutePath())
+        .map(path -> fromSystemProperty.computeIfAbsent(path, RunTimings::new));
+  }
+
+  /**
+   * Measure a hook's block, when timings are being recorded.
+   * @param kind the kind of hook, such as {@code beforeEach}
+   * @param block the block declared
+   * @return the block to run in the hook
+   */
+  public static Block timed(final String kind, final Block block) {
+    return forSuiteBeingDeclared(kind)
+        .<Block>map(durations -> () -> {
+          final long started = System.nanoTime();
+          try {
+            block.run();
+          } finally {
+            durations.add(System.nanoTime() - started);
+          }
+        })
+        .orElse(block);
+  }
+
+  /**
+   * Measure a supplier, when timings are being recorded.
+   * @param kind the kind of hook, such as {@code let}
+   * @param supplier the supplier declared
+   * @param <T> the type supplied
+   * @return the supplier to use in the hook
+   */
+  public static <T> ThrowingSupplier<T> timed(final String kind,
+      final ThrowingSupplier<T> supplier) {
+    return forSuiteBeingDeclared(kind)
+        .<ThrowingSupplier<T>>map(durations -> () -> {
+          final long started = System.nanoTime();
+          try {
+            return supplier.getOrThrow();
+          } finally {
+            durations.add(System.nanoTime() - started);
+          }
+        })
+        .orElse(supplier);
+  }
+
+  /**
+   * Measure a hook which runs around a block, less the time taken by the block, when timings are
+   * being recorded.
+   * @param kind the kind of hook, such as {@code aroundEach}
+   * @param consumer the hook declared
+   * @return the hook to use
+   */
+  public static ThrowingConsumer<Block> timedAround(final String kind,
+      final ThrowingConsumer<Block> consumer) {
+    return forSuiteBeingDeclared(kind)
+        .<ThrowingConsumer<Block>>map(durations -> inner -> {
+          final long[] innerNanos = new long[1];
+          final long started = System.nanoTime();
+          try {
+            consumer.accept(() -> {
+              final long innerStarted = System.nanoTime();
+              try {
+                inner.run();
+              } finally {
+                innerNanos[0] += System.nanoTime() - innerStarted;
+              }
+            });
+          } finally {
+            durations.add(System.nanoTime() - started - innerNanos[0]);
+          }
+        })
+        .orElse(consumer);
+  }
+
+  private static Optional<Durations> forSuiteBeingDeclared(final String kind) {
+    return fromSystemProperty().map(timings -> timings.durations(
+        DeclarationState.instance().pathOfCurrentSuite(), kind));
+  }
+
+  /**
+   * Record how long each spec takes, from being started to being finished.
+   * @param root the description of the test class being run
+   * @param reporting where the specs are reported
+   * @return reporting which also records timings
+   */
+  public RunReporting<Description, Failure> recording(final Description root,
+      final RunReporting<Description, Failure> reporting) {
+    final Map<Description, String> suitePaths = new IdentityHashMap<>();
+    addSuitePaths(root, root.getDisplayName(), suitePaths);
+    final ConcurrentMap<Description, Long> started = new ConcurrentHashMap<>();
+
+    return new FailureDetectingRunDecorator<Description, Failure>(reporting) {
+      @Override
+      public void fireTestStarted(final Description description) {
+        started.put(description, System.nanoTime());
+        super.fireTestStarted(description);
+      }
+
+      @Override
+      public void fireTestFinished(final Description description) {
+        super.fireTestFinished(description);
+        final Long startedAt = started.remove(description);
+        final String suite = suitePaths.get(description);
+        if (startedAt != null && suite != null) {
+          durations(suite, SPEC).add(System.nanoTime() - startedAt);
+        }
+      }
+    };
+  }
+
+  private static void addSuitePaths(final Description suite, final String path,
+      final Map<Description, String> suitePaths) {
+    for (final Description child : suite.getChildren()) {
+      if (child.isTest()) {
+        suitePaths.put(child, path);
+      } else {
+        addSuitePaths(child, RunHistory.pathOf(path, child), suitePaths);
+      }
+    }
+  }
+
+  Durations durations(final String suite, final String kind) {
+    return this.bySuite.computeIfAbsent(suite, name -> new ConcurrentHashMap<>())
+        .computeIfAbsent(kind, name -> new Durations());
+  }
+
+  /**
+   * Write everything recorded so far to the report, replacing what was there in one step, so
+   * that a reader never sees it half-written. Suites come slowest first, as do the kinds within
+   * each suite.
+   */
+  public synchronized void writeReport() {
+    try {
+      AtomicFiles.replace(this.report, Arrays.asList(toJson().split("\n")));
+    } catch (final IOException ioException) {
+      throw new UncheckedIOException(
+          "Could not write the timing report to " + this.report, ioException);
+    }
+  }
+
+  String toJson() {
+    final List<Map.Entry<String, List<Map.Entry<String, long[]>>>> suites =
+        this.bySuite.entrySet().stream()
+            .map(suite -> entry(suite.getKey(), suite.getValue().entrySet().stream()
+                .map(kind -> entry(kind.getKey(), kind.getValue().sorted()))
+                .filter(kind -> kind.getValue().length > 0)
+                .sorted(slowestFirst(entry -> total(entry.getValue())))
+                .collect(Collectors.toList())))
+            .filter(suite -> !suite.getValue().isEmpty())
+            .sorted(slowestFirst(entry -> entry.getValue().stream()
+                .mapToLong(kind -> total(kind.getValue())).sum()))
+            .collect(Collectors.toList());
+
+    final StringBuilder json = new StringBuilder("{\n  \"unit\": \"ns\",\n  \"suites\": [");
+    for (int suite = 0; suite < suites.size(); suite++) {
+      json.append(suite == 0 ? "\n" : ",\n")
+          .append("    {\n      \"suite\": ").append(quoted(suites.get(suite).getKey()))
+          .append(",\n      \"timings\": [");
+      final List<Map.Entry<String, long[]>> kinds = suites.get(suite).getValue();
+      for (int kind = 0; kind < kinds.size(); kind++) {
+        final long[] sorted = kinds.get(kind).getValue();
+        json.append(kind == 0 ? "\n" : ",\n")
+            .append("        {\"kind\": ").append(quoted(kinds.get(kind).getKey()))
+            .append(", \"count\": ").append(sorted.length)
+            .append(", \"total\": ").append(total(sorted))
+            .append(", \"p50\": ").append(percentile(sorted, 50))
+            .append(", \"p90\": ").append(percentile(sorted, 90))
+            .append(", \"p99\": ").append(percentile(sorted, 99))
+            .append(", \"max\": ").append(sorted[sorted.length - 1])
+            .append('}');
+      }
+      json.append("\n      ]\n    }");
+    }
+
+    return json.append("\n  ]\n}\n").toString();
+  }
+
+  private static <V> Map.Entry<String, V> entry(final String key, final V value) {
+    return new AbstractMap.SimpleImmutableEntry<>(key, value);
+  }
+
+  private static <E> Comparator<E> slowestFirst(final ToLongFunction<E> total) {
+    return Comparator.comparingLong(total).reversed();
+  }
+
+  private static long total(final long[] durations) {
+    return Arrays.stream(durations).sum();
+  }
+
+  /**
+   * The nearest-rank percentile.
+   */
+  static long percentile(final long[] sorted, final int percent) {
+    final int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  private static String quoted(final String text) {
+    final StringBuilder quoted = new StringBuilder("\"");
+    for (final char character : text.toCharArray()) {
+      if (character == '"' || character == '\\') {
+        quoted.append('\\').append(character);
+      } else if (character < ' ') {
+        quoted.append(String.format("\\u%04x", (int) character));
+      } else {
+        quoted.append(character);
+      }
+    }
+
+    return quoted.append('"').toString();
+  }
+
+  /**
+   * The durations of one kind of node in one suite.
+   */
+  static final class Durations {
+    private long[] nanos = new long[16];
+    private int size;
+
+    synchronized void add(final long duration) {
+      if (this.size == this.nanos.length) {
+        this.nanos = Arrays.copyOf(this.nanos, this.size * 2);
+      }
+      this.nanos[this.size++] = duration;
+    }
+
+    synchronized long[] sorted() {
+      final long[] sorted = Arrays.copyOf(this.nanos, this.size);
+      Arrays.sort(sorted);
+
+      return sorted;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Configure;
+
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * One of several parts of a run, so that the run can be split across machines. Each spec, or
+ * each scenario as a whole, belongs to exactly one shard, which is worked out the same way in
+ * every JVM. Chosen by the {@value Configure#SHARD_INDEX_PROPERTY},
+ * {@value Configure#SHARD_COUNT_PROPERTY} and {@value Configure#SHARD_MODE_PROPERTY} system
+ * properties.
+ *
+ * <p>The modes are:
+ * <ul>
+ *   <li>{@value #HASH} - by a hash of the spec's path, which needs nothing but the specs</li>
+ *   <li>{@value #DURATION} - by balancing the durations recorded in the {@link RunHistory}, so
+ *   that each shard takes about as long. Specs the history doesn't know are placed by hash</li>
+ * </ul>
+ */
+public final class Shard {
+  public static final String HASH = "hash";
+  public static final String DURATION = "duration";
+
+  private final int index;
+  private final int count;
+  private final boolean balanceDurations;
+
+  private Shard(final int index, final int count, final boolean balanceDurations) {
+    if (count < 1 || index < 0 || index >= count) {
+      throw new IllegalArgumentException(Configure.SHARD_INDEX_PROPERTY + " must be from 0 to "
+          + Configure.SHARD_COUNT_PROPERTY + " - 1, but was " + index + " of " + count);
+    }
+    this.index = index;
+    this.count = count;
+    this.balanceDurations = balanceDurations;
+  }
+
+  /**
+   * Provide the shard requested by the system properties, if any.
+   * @return the shard to run, or empty when the properties are not set
+   */
+  public static Optional<Shard> fromSystemProperty() {
+    final Optional<Integer> count = number(Configure.SHARD_COUNT_PROPERTY);
+    if (!count.isPresent()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new Shard(number(Configure.SHARD_INDEX_PROPERTY).orElse(0), count.get(),
+        balancesDurations(System.getProperty(Configure.SHARD_MODE_PROPERTY, HASH).trim())));
+  }
+
+  private static Optional<Integer> number(final String property) {
+    final Optional<String> value = Optional.ofNullable(System.getProperty(property))
+        .map(String::trim)
+        .filter(string -> !string.isEmpty());
+    try {
+      return value.map(Integer::parseInt);
+    } catch (final NumberFormatException notANumber) {
+      throw new IllegalArgumentException(property + " must be a whole number, but was \""
+          + value.get() + "\"", notANumber);
+    }
+  }
+
+  private static boolean balancesDurations(final String mode) {
+    switch (mode) {
+      case HASH:
+        return false;
+      case DURATION:
+        return true;
+      default:
+        throw new IllegalArgumentException(Configure.SHARD_MODE_PROPERTY + " must be " + HASH
+            + " or " + DURATION + ", but was \"" + mode + "\"");
+    }
+  }
+
+  /**
+   * Remove everything outside this shard from the suite, along with any suites left empty, so
+   * that neither they nor their hooks are run.
+   * @param root the root suite of a test class, once declared
+   */
+  public void prune(final Suite root) {
+    final List<Unit> units = new ArrayList<>();
+    collectUnits(root, root.getDescription().getDisplayName(), units);
+    final Set<Description> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+    assign(units, root.getDescription().getDisplayName()).stream()
+        .filter(unit -> unit.shard == this.index)
+        .forEach(unit -> selected.add(unit.description));
+    root.filter(new Filter() {
+      @Override
+      public boolean shouldRun(final Description description) {
+        return selected.contains(description)
+            || description.getChildren().stream().anyMatch(this::shouldRun);
+      }
+
+      @Override
+      public String describe() {
+        return "shard " + Shard.this.index + " of " + Shard.this.count;
+      }
+    });
+  }
+
+  /**
+   * The units of work which are never split: the specs, and scenarios as a whole.
+   */
+  private static void collectUnits(final Suite suite, final String path, final List<Unit> units) {
+    for (final Child child : suite.children) {
+      final Description description = child.getDescription();
+      final String childPath = RunHistory.pathOf(path, description);
+      if (child.isAtomic() || !(child instanceof Suite)) {
+        units.add(new Unit(description, childPath));
+      } else {
+        collectUnits((Suite) child, childPath, units);
+      }
+    }
+  }
+
+  private List<Unit> assign(final List<Unit> units, final String testClass) {
+    final Optional<RunHistory> history =
+        this.balanceDurations ? RunHistory.fromSystemProperty() : Optional.empty();
+    final List<Unit> timed = new ArrayList<>();
+    for (final Unit unit : units) {
+      final Optional<Long> duration = history.flatMap(unit::durationIn);
+      if (duration.isPresent()) {
+        unit.nanos = duration.get();
+        timed.add(unit);
+      } else {
+        unit.shard = byHash(unit.path);
+      }
+    }
+    balance(timed, byHash(testClass));
+
+    return units;
+  }
+
+  /**
+   * Place the longest first, each on the shard with the least so far. Each test class starts
+   * from a different shard, so that the longest specs of every class don't all land on one.
+   */
+  private void balance(final List<Unit> timed, final int firstShard) {
+    timed.sort(Comparator.comparingLong((Unit unit) -> unit.nanos).reversed()
+        .thenComparing(unit -> unit.path));
+    final long[] loads = new long[this.count];
+    for (final Unit unit : timed) {
+      int lightest = firstShard;
+      for (int offset = 1; offset < this.count; offset++) {
+        final int shard = (firstShard + offset) % this.count;
+        if (loads[shard] < loads[lightest]) {
+          lightest = shard;
+        }
+      }
+      unit.shard = lightest;
+      loads[lightest] += unit.nanos;
+    }
+  }
+
+  private int byHash(final String path) {
+    // String.hashCode is the same in every JVM, the mixing spreads similar paths apart
+    int hash = path.hashCode();
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+
+    return Math.floorMod(hash, this.count);
+  }
+
+  /**
+   * A spec, or scenario, and where it is to run.
+   */
+  private static final class Unit {
+    final Description description;
+    final String path;
+    long nanos;
+    int shard;
+
+    Unit(final Description description, final String path) {
+      this.description = description;
+      this.path = path;
+    }
+
+    Optional<Long> durationIn(final RunHistory history) {
+      if (this.description.isTest()) {
+        return history.durationOf(this.path);
+      }
+      // a scenario takes as long as its steps, if they have all run before
+      final List<Optional<Long>> steps = new ArrayList<>();
+      this.description.getChildren()
+          .forEach(step -> steps.add(history.durationOf(RunHistory.pathOf(this.path, step))));
+
+      return steps.stream().allMatch(Optional::isPresent)
+          ? Optional.of(steps.stream().mapToLong(Optional::get).sum()) : Optional.empty();
+    }
+  }
+}
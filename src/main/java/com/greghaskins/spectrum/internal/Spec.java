@@ -3,6 +3,7 @@ package com.greghaskins.spectrum.internal;
 
 import com.greghaskins.spectrum.Block;
 import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookChain;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
 import com.greghaskins.spectrum.internal.hooks.Hooks;
 import com.greghaskins.spectrum.internal.hooks.NonReportingHook;
@@ -17,6 +18,8 @@ final class Spec implements LeafChild {
   private final Parent parent;
   private boolean ignored = false;
   private Hooks leafHooks = new Hooks();
+  private HookChain compiledLeafHooks;
+  private Repetition repetition;
 
   Spec(final Description description, final Block block, final Parent parent) {
     this.description = description;
@@ -38,7 +41,7 @@ final class Spec implements LeafChild {
     }
 
     // apply leaf hooks around the inner block
-    leafHooks.sorted().runAround(this.description, notifier, block);
+    compiledLeafHooks.runAround(this.description, notifier, block);
   }
 
   @Override
@@ -75,6 +78,21 @@ final class Spec implements LeafChild {
     return ignored;
   }
 
+  @Override
+  public void freeze() {
+    compiledLeafHooks = leafHooks.compile();
+  }
+
+  @Override
+  public void repeat(final Repetition repetition) {
+    this.repetition = repetition;
+  }
+
+  @Override
+  public Repetition getRepetition() {
+    return this.repetition;
+  }
+
   @Override
   public void addLeafHook(NonReportingHook leafHook, HookContext.Precedence precedence) {
     // hooks at this level are always at the same point in the hierarchy and applying to each child
@@ -3,32 +3,52 @@ package com.greghaskins.spectrum.internal;
 import static com.greghaskins.spectrum.internal.configuration.BlockConfiguration.merge;
 
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.configuration.BlockConfigurable;
 import com.greghaskins.spectrum.internal.configuration.BlockConfiguration;
+import com.greghaskins.spectrum.internal.configuration.BlockParallel;
 import com.greghaskins.spectrum.internal.configuration.ConfiguredBlock;
 import com.greghaskins.spectrum.internal.configuration.TaggingFilterCriteria;
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
 import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookChain;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
 import com.greghaskins.spectrum.internal.hooks.Hooks;
+import com.greghaskins.spectrum.internal.junit.Watchdog;
 
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Sorter;
 import org.junit.runner.notification.Failure;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 public class Suite implements Parent, Child {
   private Hooks hooks = new Hooks();
+  private CompiledHooks compiledHooks;
 
   protected final List<Child> children = new ArrayList<>();
-  private final Set<Child> focusedChildren = new HashSet<>();
+  private Set<Child> focusedChildren = new HashSet<>();
 
-  private final ChildRunner childRunner;
+  private ChildRunner childRunner;
 
   private final Description description;
   private final Parent parent;
   private boolean ignored;
+  private Duration budget;
+  private volatile Deadline deadline = Deadline.NONE;
+  private FailFast failFast;
+
+  // worked out when the suite is frozen, rather than from the children on every run
+  private boolean frozen;
+  private int testCount;
+  private boolean effectivelyIgnored;
+  private Description frozenDescription;
 
   private final TaggingFilterCriteria tagging;
   private BlockConfiguration configuration = BlockConfiguration.defaultConfiguration();
@@ -42,9 +62,40 @@ public class Suite implements Parent, Child {
     void runChildren(final Suite suite, final RunReporting<Description, Failure> reporting);
   }
 
+  /**
+   * The hooks of the suite, compiled into the chains that run around it and its children.
+   */
+  private static final class CompiledHooks {
+    final HookChain once;
+    final HookChain eachChild;
+    final HookChain eachLeafChild;
+    final HookChain atomicChild;
+    final HookChain nonAtomicChild;
+
+    CompiledHooks(final Hooks declared, final Hooks inherited, final HookContext testNotifier) {
+      final Hooks all = inherited.plus(declared);
+      this.once = declared.once().compile();
+      this.eachChild = declared.forThisLevel().compile();
+      this.eachLeafChild = declared.forThisLevel().plus(singleton(testNotifier)).compile();
+      this.atomicChild = all.forAtomic().compile();
+      this.nonAtomicChild = all.forNonAtomic().compile();
+    }
+
+    private static Hooks singleton(final HookContext hook) {
+      final Hooks hooks = new Hooks();
+      hooks.add(hook);
+
+      return hooks;
+    }
+  }
+
   public static Suite rootSuite(final Description description) {
-    return new Suite(description, Parent.NONE, Suite::defaultChildRunner,
+    final Suite suite = new Suite(description, Parent.NONE, Suite::defaultChildRunner,
         new TaggingFilterCriteria());
+    BlockParallel.fromSystemProperty().ifPresent(suite::applyConfigurable);
+    FailFast.fromSystemProperty().ifPresent(suite::failFast);
+
+    return suite;
   }
 
   /**
@@ -66,6 +117,14 @@ public class Suite implements Parent, Child {
     this.tagging = taggingFilterCriteria;
   }
 
+  /**
+   * The name of this suite, as it is reported.
+   * @return the display name of its description
+   */
+  String getDisplayName() {
+    return this.description.getDisplayName();
+  }
+
   public Suite addSuite(final String name) {
     return addSuite(name, Suite::defaultChildRunner);
   }
@@ -123,6 +182,11 @@ public class Suite implements Parent, Child {
     this.configuration.applyTo(this, this.tagging);
   }
 
+  private void applyConfigurable(final BlockConfigurable<?> configurable) {
+    this.configuration.add(configurable);
+    configurable.applyTo(this, this.tagging);
+  }
+
   private void addChild(final Child child) {
     this.children.add(child);
   }
@@ -137,10 +201,24 @@ public class Suite implements Parent, Child {
     this.hooks.add(hook);
   }
 
-  private Hooks getHooksFor(final Child child) {
-    Hooks allHooks = this.parent.getInheritableHooks().plus(this.hooks);
+  @Override
+  public void freeze() {
+    this.children.forEach(Child::freeze);
+    this.compiledHooks =
+        new CompiledHooks(this.hooks, this.parent.getInheritableHooks(), testNotifier());
+    summariseChildren();
+
+    // the rest is only needed while declaring
+    if (this.focusedChildren.isEmpty()) {
+      this.focusedChildren = Collections.emptySet();
+    }
+    this.nameSanitiser = null;
+    this.configuration = null;
+    this.frozen = true;
+  }
 
-    return child.isAtomic() ? allHooks.forAtomic() : allHooks.forNonAtomic();
+  private HookChain getHooksFor(final Child child) {
+    return child.isAtomic() ? this.compiledHooks.atomicChild : this.compiledHooks.nonAtomicChild;
   }
 
   @Override
@@ -152,6 +230,49 @@ public class Suite implements Parent, Child {
     return this.parent.getInheritableHooks().plus(this.hooks.forAtomic());
   }
 
+  /**
+   * Run the children of this suite concurrently.
+   *
+   * @param maxConcurrency the most children that may run at once - 1 means run serially
+   */
+  public void runChildrenInParallel(final int maxConcurrency) {
+    this.childRunner = maxConcurrency > 1 ? new ParallelChildRunner(maxConcurrency)
+        : Suite::defaultChildRunner;
+  }
+
+  /**
+   * Give the suite, including its hooks, a budget of time to run in. The budget is shared by
+   * everything inside the suite, so nested suites and specs get whatever remains of it. Once it
+   * has run out, the specs still running are interrupted and the rest are not run at all - all
+   * of them fail with a timeout.
+   *
+   * @param budget how long the suite may take
+   */
+  public void finishWithin(final Duration budget) {
+    this.budget = budget;
+  }
+
+  @Override
+  public Deadline getDeadline() {
+    return this.deadline;
+  }
+
+  /**
+   * Stop running the suite when the policy says enough has failed. The specs which haven't
+   * started by then are reported as ignored.
+   *
+   * @param failFast the policy
+   */
+  public void failFast(final FailFast failFast) {
+    this.failFast = failFast;
+  }
+
+  @Override
+  public boolean isStoppedByFailures() {
+    return (this.failFast != null && this.failFast.hasStopped())
+        || this.parent.isStoppedByFailures();
+  }
+
   /**
    * Set the suite to require certain tags of all tests below.
    *
@@ -170,6 +291,15 @@ public class Suite implements Parent, Child {
     this.tagging.exclude(tags);
   }
 
+  /**
+   * Set the suite to require the tags of all tests below to match an expression.
+   *
+   * @param tagExpression the expression, such as {@code (fast | unit) & !flaky}
+   */
+  public void matchTags(final String tagExpression) {
+    this.tagging.match(tagExpression);
+  }
+
   @Override
   public void focus(final Child child) {
     this.focusedChildren.add(child);
@@ -185,9 +315,45 @@ public class Suite implements Parent, Child {
     this.parent.focus(this);
   }
 
+  @Override
+  public void childChanged(final Child child) {
+    if (this.frozen) {
+      summariseChildren();
+      this.parent.childChanged(this);
+    }
+  }
+
+  /**
+   * Work out, from the children as they stand, everything that is remembered about them once
+   * frozen. The children's own descriptions are already built, so only this level is rebuilt.
+   */
+  private void summariseChildren() {
+    this.testCount = countTests();
+    this.effectivelyIgnored = this.ignored || !hasANonIgnoredChild();
+    this.frozenDescription = describe();
+  }
+
+  @Override
+  public boolean filter(final Filter filter) {
+    // children removed here are never run, nor are the hooks around them
+    this.children.removeIf(child ->
+        !filter.shouldRun(child.getDescription()) || !child.filter(filter));
+    summariseChildren();
+
+    return !this.children.isEmpty();
+  }
+
+  @Override
+  public void sort(final Sorter sorter) {
+    this.children.forEach(child -> child.sort(sorter));
+    this.children.sort(Comparator.comparing(Child::getDescription, sorter));
+    summariseChildren();
+  }
+
   @Override
   public void ignore() {
     this.ignored = true;
+    this.effectivelyIgnored = true;
   }
 
   @Override
@@ -196,7 +362,11 @@ public class Suite implements Parent, Child {
   }
 
   @Override
-  public void run(final RunReporting<Description, Failure> reporting) {
+  public void run(final RunReporting<Description, Failure> runReporting) {
+    final RunReporting<Description, Failure> reporting =
+        this.failFast == null ? runReporting : this.failFast.counting(runReporting);
+    this.deadline = this.budget == null ? this.parent.getDeadline()
+        : this.parent.getDeadline().earlierOf(Deadline.after(this.budget));
     if (testCount() == 0) {
       reporting.fireTestIgnored(this.description);
       runChildren(reporting);
@@ -208,9 +378,30 @@ public class Suite implements Parent, Child {
   private void runSuite(final RunReporting<Description, Failure> reporting) {
     if (isEffectivelyIgnored()) {
       runChildren(reporting);
+    } else if (this.deadline.isSet()) {
+      runSuiteWithinDeadline(reporting);
     } else {
-      this.hooks.once().sorted()
-          .runAround(this.description, reporting, () -> runChildren(reporting));
+      this.compiledHooks.once.runAround(this.description, reporting, () -> runChildren(reporting));
+    }
+  }
+
+  private void runSuiteWithinDeadline(final RunReporting<Description, Failure> reporting) {
+    // the suite's own hooks are watched, but not while the children run, as they watch themselves
+    final OnceHooksWatch watch = new OnceHooksWatch(this.deadline);
+    try {
+      this.compiledHooks.once.runAround(this.description,
+          new DeadlineRunDecorator<>(reporting, watch::hasTimedOut), () -> {
+            watch.pause();
+            try {
+              runChildren(reporting);
+            } finally {
+              watch.resume();
+            }
+          });
+    } finally {
+      if (watch.stop()) {
+        reporting.fireTestFailure(new Failure(this.description, this.deadline.timedOut()));
+      }
     }
   }
 
@@ -224,9 +415,13 @@ public class Suite implements Parent, Child {
       child.run(reporting);
     } else if (childIsNotInFocus(child)) {
       reporting.fireTestIgnored(child.getDescription());
+    } else if (isStoppedByFailures()) {
+      skip(child, reporting);
+    } else if (this.deadline.hasPassed()) {
+      runOutOfTime(child, reporting);
     } else {
-      addLeafHook(this.hooks.forThisLevel().sorted(), child).runAround(child.getDescription(), reporting,
-          () -> runChildWithHooks(child, reporting));
+      hooksAroundEach(child).runAround(child.getDescription(), reporting,
+          () -> runChildWithHooksRepeatedly(child, reporting));
     }
   }
 
@@ -234,18 +429,69 @@ public class Suite implements Parent, Child {
     return !this.focusedChildren.isEmpty() && !this.focusedChildren.contains(child);
   }
 
+  private void runChildWithHooksRepeatedly(final Child child,
+      final RunReporting<Description, Failure> reporting) throws Throwable {
+    final Repetition repetition =
+        child instanceof LeafChild ? ((LeafChild) child).getRepetition() : null;
+    if (repetition == null) {
+      runChildWithHooks(child, reporting);
+    } else {
+      repetition.run(child.getDescription(), reporting,
+          iterationReporting -> runChildWithHooks(child, iterationReporting));
+    }
+  }
+
   private void runChildWithHooks(final Child child, final RunReporting<Description, Failure> reporting) {
-    getHooksFor(child).sorted().runAround(child.getDescription(), reporting,
-        () -> child.run(reporting));
+    // every child runs in a context of its own, so values supplied by hooks never leak between them
+    ExecutionContext.runInNewContext(() -> {
+      if (child.isAtomic() && this.deadline.isSet()) {
+        runWithinDeadline(child, reporting);
+      } else {
+        runWithHooks(child, reporting);
+      }
+    });
+  }
+
+  private void runWithHooks(final Child child, final RunReporting<Description, Failure> reporting) {
+    getHooksFor(child).runAround(child.getDescription(), reporting, () -> child.run(reporting));
+  }
 
+  private void runWithinDeadline(final Child child,
+      final RunReporting<Description, Failure> reporting) {
+    final Deadline deadline = this.deadline;
+    final Watchdog watchdog = Watchdog.watch(deadline.remaining());
+    try {
+      runWithHooks(child, new DeadlineRunDecorator<>(reporting, watchdog::hasTimedOut));
+    } finally {
+      if (watchdog.stop()) {
+        reporting.fireTestFailure(new Failure(child.getDescription(), deadline.timedOut()));
+      }
+    }
+  }
+
+  private static void skip(final Child child, final RunReporting<Description, Failure> reporting) {
+    if (child instanceof Suite) {
+      ((Suite) child).children.forEach(grandChild -> skip(grandChild, reporting));
+    } else {
+      reporting.fireTestIgnored(child.getDescription());
+    }
   }
 
-  private Hooks addLeafHook(final Hooks hooks, final Child child) {
-    if (child.isLeaf()) {
-      hooks.add(testNotifier());
+  private void runOutOfTime(final Child child, final RunReporting<Description, Failure> reporting) {
+    if (child.isEffectivelyIgnored()) {
+      child.run(reporting);
+    } else if (child instanceof Suite) {
+      ((Suite) child).children.forEach(grandChild -> runOutOfTime(grandChild, reporting));
+    } else {
+      final Description description = child.getDescription();
+      reporting.fireTestStarted(description);
+      reporting.fireTestFailure(new Failure(description, this.deadline.timedOut()));
+      reporting.fireTestFinished(description);
     }
+  }
 
-    return hooks;
+  private HookChain hooksAroundEach(final Child child) {
+    return child.isLeaf() ? this.compiledHooks.eachLeafChild : this.compiledHooks.eachChild;
   }
 
   private HookContext testNotifier() {
@@ -266,6 +512,10 @@ public class Suite implements Parent, Child {
 
   @Override
   public Description getDescription() {
+    return this.frozen ? this.frozenDescription : describe();
+  }
+
+  private Description describe() {
     final Description copy = this.description.childlessCopy();
     this.children.forEach((child) -> copy.addChild(child.getDescription()));
 
@@ -274,11 +524,16 @@ public class Suite implements Parent, Child {
 
   @Override
   public int testCount() {
+    return this.frozen ? this.testCount : countTests();
+  }
+
+  private int countTests() {
     return this.children.stream().mapToInt(Child::testCount).sum();
   }
 
   public void removeAllChildren() {
     this.children.clear();
+    childChanged(this);
   }
 
   private static void defaultChildRunner(final Suite suite,
@@ -292,6 +547,10 @@ public class Suite implements Parent, Child {
 
   @Override
   public boolean isEffectivelyIgnored() {
+    if (this.frozen) {
+      return this.effectivelyIgnored;
+    }
+
     return this.ignored || !hasANonIgnoredChild();
   }
 
@@ -299,4 +558,40 @@ public class Suite implements Parent, Child {
     return this.children.stream()
         .anyMatch(child -> !child.isEffectivelyIgnored());
   }
+
+  /**
+   * Watches the hooks which run once around a suite with a deadline. Running out of time while
+   * the children run is reported against the children, so the suite only reports it when its
+   * own hooks overran.
+   */
+  private static final class OnceHooksWatch {
+    private final Deadline deadline;
+    private volatile Watchdog watchdog;
+    private volatile boolean overran;
+    private boolean reportedByChildren;
+
+    OnceHooksWatch(final Deadline deadline) {
+      this.deadline = deadline;
+      this.watchdog = Watchdog.watch(deadline.remaining());
+    }
+
+    boolean hasTimedOut() {
+      return this.overran || this.watchdog.hasTimedOut();
+    }
+
+    void pause() {
+      this.overran = this.watchdog.stop();
+    }
+
+    void resume() {
+      this.reportedByChildren = this.deadline.hasPassed();
+      this.watchdog = Watchdog.watch(this.deadline.remaining());
+    }
+
+    boolean stop() {
+      final boolean timedOut = this.watchdog.stop();
+
+      return this.overran || (timedOut && !this.reportedByChildren);
+    }
+  }
 }
@@ -12,7 +12,7 @@ public final class IdempotentBlock implements Block {
   }
 
   @Override
-  public void run() throws Throwable {
+  public synchronized void run() throws Throwable {
     if (this.result == null) {
       this.result = runBlockOnce(this.block);
     }
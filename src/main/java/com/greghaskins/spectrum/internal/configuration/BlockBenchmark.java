@@ -0,0 +1,41 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.internal.Benchmark;
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.LeafChild;
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+
+/**
+ * Runs each leaf node as a {@link Benchmark}. The benchmark goes innermost, around the spec's
+ * own block, so that its hooks are not measured.
+ */
+public class BlockBenchmark implements BlockConfigurable<BlockBenchmark> {
+  private final Benchmark benchmark;
+
+  /**
+   * Create the benchmark configuration.
+   * @param benchmark how to run each spec
+   */
+  public BlockBenchmark(final Benchmark benchmark) {
+    this.benchmark = benchmark;
+  }
+
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(final Child child, final TaggingFilterCriteria state) {
+    if (child instanceof LeafChild) {
+      ((LeafChild) child).addLeafHook(this.benchmark.hook(), HookContext.Precedence.LOCAL);
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockBenchmark> merge(final BlockConfigurable<?> other) {
+    // my benchmark supersedes any inherited benchmark
+
+    return this;
+  }
+}
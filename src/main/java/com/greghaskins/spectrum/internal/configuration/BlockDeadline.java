@@ -0,0 +1,48 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import static com.greghaskins.spectrum.internal.junit.TimeoutWrapper.timeoutHook;
+
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.LeafChild;
+import com.greghaskins.spectrum.internal.Suite;
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+
+import java.time.Duration;
+
+/**
+ * Gives a suite a budget of time to run in, which is shared by everything inside it. On a
+ * single spec, this is no different from a timeout.
+ */
+public class BlockDeadline implements BlockConfigurable<BlockDeadline> {
+  private final Duration budget;
+
+  /**
+   * Create the deadline.
+   * @param budget how long the suite may take
+   */
+  public BlockDeadline(final Duration budget) {
+    this.budget = budget;
+  }
+
+  @Override
+  public boolean inheritedByChild() {
+    // the remaining budget is passed down while running
+    return false;
+  }
+
+  @Override
+  public void applyTo(final Child child, final TaggingFilterCriteria state) {
+    if (child instanceof Suite) {
+      ((Suite) child).finishWithin(this.budget);
+    } else if (child instanceof LeafChild) {
+      ((LeafChild) child).addLeafHook(timeoutHook(this.budget), HookContext.Precedence.ROOT);
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockDeadline> merge(final BlockConfigurable<?> other) {
+    // my budget supersedes any other
+
+    return this;
+  }
+}
@@ -0,0 +1,67 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.Suite;
+
+import java.util.Optional;
+
+/**
+ * Runs the children of a suite concurrently. Nested suites inherit this, unless they
+ * supersede it with their own setting - {@code parallel(1)} puts a subtree back to running
+ * serially.
+ */
+public class BlockParallel implements BlockConfigurable<BlockParallel> {
+  private final int maxConcurrency;
+
+  /**
+   * Create the parallel configuration.
+   * @param maxConcurrency the most children of a suite that may run at once
+   */
+  public BlockParallel(final int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be at least 1, but was " + maxConcurrency);
+    }
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Provide the parallel configuration requested by {@link Configure#PARALLEL_PROPERTY}, if any.
+   * @return the configuration to apply to the root suite, or empty when the property is not set
+   */
+  public static Optional<BlockParallel> fromSystemProperty() {
+    return Optional.ofNullable(System.getProperty(Configure.PARALLEL_PROPERTY))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .map(BlockParallel::parse);
+  }
+
+  private static BlockParallel parse(final String value) {
+    try {
+      return new BlockParallel(Integer.parseInt(value));
+    } catch (NumberFormatException notANumber) {
+      throw new IllegalArgumentException(
+          Configure.PARALLEL_PROPERTY + " must be a whole number, but was \"" + value + "\"",
+          notANumber);
+    }
+  }
+
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(final Child child, final TaggingFilterCriteria state) {
+    if (child instanceof Suite) {
+      ((Suite) child).runChildrenInParallel(this.maxConcurrency);
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockParallel> merge(final BlockConfigurable<?> other) {
+    // my concurrency supersedes any inherited concurrency
+
+    return this;
+  }
+}
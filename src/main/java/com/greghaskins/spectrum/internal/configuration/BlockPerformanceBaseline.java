@@ -0,0 +1,43 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.LeafChild;
+import com.greghaskins.spectrum.internal.PerformanceBaseline;
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+
+/**
+ * Checks each leaf node against its {@link PerformanceBaseline}. The check goes innermost, around
+ * the spec's own block, so that its hooks are not measured.
+ */
+public class BlockPerformanceBaseline implements BlockConfigurable<BlockPerformanceBaseline> {
+  private final PerformanceBaseline baseline;
+
+  /**
+   * Create the baseline configuration.
+   * @param baseline how to check each spec
+   */
+  public BlockPerformanceBaseline(final PerformanceBaseline baseline) {
+    this.baseline = baseline;
+  }
+
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(final Child child, final TaggingFilterCriteria state) {
+    if (child instanceof LeafChild) {
+      final String path = DeclarationState.instance().pathOf(child.getDescription());
+      ((LeafChild) child).addLeafHook(this.baseline.hook(path), HookContext.Precedence.LOCAL);
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockPerformanceBaseline> merge(final BlockConfigurable<?> other) {
+    // my baseline supersedes any inherited baseline
+
+    return this;
+  }
+}
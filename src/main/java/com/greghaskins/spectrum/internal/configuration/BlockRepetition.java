@@ -0,0 +1,39 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.LeafChild;
+import com.greghaskins.spectrum.internal.Repetition;
+
+/**
+ * Runs each leaf node over and over, as set out by a {@link Repetition}.
+ */
+public class BlockRepetition implements BlockConfigurable<BlockRepetition> {
+  private final Repetition repetition;
+
+  /**
+   * Create the repetition configuration.
+   * @param repetition how to repeat each spec
+   */
+  public BlockRepetition(final Repetition repetition) {
+    this.repetition = repetition;
+  }
+
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(final Child child, final TaggingFilterCriteria state) {
+    if (child instanceof LeafChild) {
+      ((LeafChild) child).repeat(this.repetition);
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockRepetition> merge(final BlockConfigurable<?> other) {
+    // my repetition supersedes any inherited repetition
+
+    return this;
+  }
+}
@@ -2,22 +2,20 @@ package com.greghaskins.spectrum.internal.configuration;
 
 import com.greghaskins.spectrum.internal.Child;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
 
 /**
  * The tags of a given block.
  */
 public class BlockTagging implements BlockConfigurable<BlockTagging> {
-  private Set<String> hasTags = new HashSet<>();
+  private final BitSet hasTags;
 
   public BlockTagging(String... tags) {
-    Arrays.stream(tags).forEach(hasTags::add);
+    this.hasTags = Tags.of(tags);
   }
 
-  private BlockTagging(Set<String> tags) {
-    hasTags.addAll(tags);
+  private BlockTagging(BitSet tags) {
+    this.hasTags = (BitSet) tags.clone();
   }
 
   @Override
@@ -39,7 +37,7 @@ public class BlockTagging implements BlockConfigurable<BlockTagging> {
       // the downcast is allowed because this is only called with an object
       // of the same type as the parent merge routine is working type
       // by type
-      merged.hasTags.addAll(((BlockTagging) other).hasTags);
+      merged.hasTags.or(((BlockTagging) other).hasTags);
     }
 
     return merged;
@@ -0,0 +1,18 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+
+import com.greghaskins.spectrum.internal.Suite;
+
+public class MatchTags implements SuiteConfigurable {
+
+  private final String tagExpression;
+
+  public MatchTags(String tagExpression) {
+    this.tagExpression = tagExpression;
+  }
+
+  @Override
+  public void applyTo(Suite suite) {
+    suite.matchTags(this.tagExpression);
+  }
+}
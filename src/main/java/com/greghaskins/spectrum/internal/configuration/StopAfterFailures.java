@@ -0,0 +1,18 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.internal.FailFast;
+import com.greghaskins.spectrum.internal.Suite;
+
+public class StopAfterFailures implements SuiteConfigurable {
+
+  private final int maxFailures;
+
+  public StopAfterFailures(int maxFailures) {
+    this.maxFailures = maxFailures;
+  }
+
+  @Override
+  public void applyTo(Suite suite) {
+    suite.failFast(new FailFast(this.maxFailures));
+  }
+}
@@ -0,0 +1,31 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import java.util.BitSet;
+
+/**
+ * A condition on the tags of a spec, compiled from an expression such as
+ * {@code (fast | unit) & !flaky}. Tags are combined with {@code !} (not), {@code &} (and) and
+ * {@code |} (or), in that order of precedence, and grouped with brackets. A tag is any run of
+ * characters other than spaces, brackets, commas and operators.
+ */
+@FunctionalInterface
+public interface TagExpression {
+  TagExpression ANYTHING = tags -> true;
+
+  /**
+   * Do the tags satisfy the expression.
+   * @param tags the ids of the tags, as interned by {@link Tags}
+   * @return true if they do
+   */
+  boolean matches(BitSet tags);
+
+  /**
+   * Compile an expression.
+   * @param expression the text of the expression, which may be blank to match anything
+   * @return the compiled expression
+   * @throws IllegalArgumentException if the expression can't be parsed
+   */
+  static TagExpression compile(final String expression) {
+    return new TagExpressionParser(expression).parse();
+  }
+}
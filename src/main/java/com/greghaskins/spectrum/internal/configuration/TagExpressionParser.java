@@ -0,0 +1,113 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+/**
+ * A recursive descent parser for {@link TagExpression tag expressions}.
+ */
+final class TagExpressionParser {
+  private final String text;
+  private int position;
+
+  TagExpressionParser(final String text) {
+    this.text = text;
+  }
+
+  TagExpression parse() {
+    if (this.text.trim().isEmpty()) {
+      return TagExpression.ANYTHING;
+    }
+    final TagExpression expression = or();
+    if (!atEnd()) {
+      throw error("unexpected '" + this.text.charAt(this.position) + "'");
+    }
+
+    return expression;
+  }
+
+  private TagExpression or() {
+    TagExpression expression = and();
+    while (consume('|')) {
+      final TagExpression left = expression;
+      final TagExpression right = and();
+      expression = tags -> left.matches(tags) || right.matches(tags);
+    }
+
+    return expression;
+  }
+
+  private TagExpression and() {
+    TagExpression expression = not();
+    while (consume('&')) {
+      final TagExpression left = expression;
+      final TagExpression right = not();
+      expression = tags -> left.matches(tags) && right.matches(tags);
+    }
+
+    return expression;
+  }
+
+  private TagExpression not() {
+    if (consume('!')) {
+      final TagExpression negated = not();
+
+      return tags -> !negated.matches(tags);
+    }
+    if (consume('(')) {
+      final TagExpression grouped = or();
+      if (!consume(')')) {
+        throw error("expected ')'");
+      }
+
+      return grouped;
+    }
+
+    return tag();
+  }
+
+  private TagExpression tag() {
+    skipSpaces();
+    final int start = this.position;
+    while (this.position < this.text.length()
+        && isTagCharacter(this.text.charAt(this.position))) {
+      this.position++;
+    }
+    if (start == this.position) {
+      throw error("expected a tag");
+    }
+    final int id = Tags.idOf(this.text.substring(start, this.position));
+
+    return tags -> tags.get(id);
+  }
+
+  private boolean consume(final char expected) {
+    skipSpaces();
+    if (!atEnd() && this.text.charAt(this.position) == expected) {
+      this.position++;
+
+      return true;
+    }
+
+    return false;
+  }
+
+  private void skipSpaces() {
+    while (this.position < this.text.length()
+        && Character.isWhitespace(this.text.charAt(this.position))) {
+      this.position++;
+    }
+  }
+
+  private boolean atEnd() {
+    skipSpaces();
+
+    return this.position >= this.text.length();
+  }
+
+  private static boolean isTagCharacter(final char character) {
+    return !Character.isWhitespace(character) && "()&|!,".indexOf(character) < 0;
+  }
+
+  private IllegalArgumentException error(final String problem) {
+    return new IllegalArgumentException("Can't parse the tag expression \"" + this.text
+        + "\": " + problem + " at position " + this.position);
+  }
+}
@@ -3,70 +3,79 @@ package com.greghaskins.spectrum.internal.configuration;
 import com.greghaskins.spectrum.Configure;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Represents the state of tagging for Spectrum - what it presently means.
+ * Represents the state of tagging for Spectrum - what it presently means. Tags are held as
+ * bitsets of interned ids, so checking a spec's tags doesn't depend on how many there are.
  */
 public class TaggingFilterCriteria {
 
-  private Set<String> included = new HashSet<>();
-  private Set<String> excluded = new HashSet<>();
   private static final String TAGS_SEPARATOR = ",";
+  private static final ConcurrentHashMap<String, TagExpression> compiledExpressions =
+      new ConcurrentHashMap<>();
+
+  private BitSet included;
+  private BitSet excluded;
+  private TagExpression expression;
 
   public TaggingFilterCriteria() {
-    include(fromSystemProperty(Configure.INCLUDE_TAGS_PROPERTY));
-    exclude(fromSystemProperty(Configure.EXCLUDE_TAGS_PROPERTY));
+    this(fromSystemProperty(Configure.INCLUDE_TAGS_PROPERTY),
+        fromSystemProperty(Configure.EXCLUDE_TAGS_PROPERTY),
+        expressionFromSystemProperty());
   }
 
-  public void include(String... tags) {
-    include(Arrays.stream(tags));
+  private TaggingFilterCriteria(final BitSet included, final BitSet excluded,
+      final TagExpression expression) {
+    this.included = included;
+    this.excluded = excluded;
+    this.expression = expression;
   }
 
-  private void include(Stream<String> tags) {
-    this.included.clear();
-    tags.forEach(this.included::add);
+  public void include(String... tags) {
+    this.included = Tags.of(tags);
   }
 
   public void exclude(String... tags) {
-    exclude(Arrays.stream(tags));
+    this.excluded = Tags.of(tags);
   }
 
-  private void exclude(Stream<String> tags) {
-    this.excluded.clear();
-    tags.forEach(this.excluded::add);
+  /**
+   * Require the tags to match an expression as well.
+   * @param tagExpression the expression - see {@link TagExpression}
+   */
+  public void match(String tagExpression) {
+    this.expression = TagExpression.compile(tagExpression);
   }
 
   @Override
   public TaggingFilterCriteria clone() {
-    TaggingFilterCriteria copy = new TaggingFilterCriteria();
-    copy.include(this.included.stream());
-    copy.exclude(this.excluded.stream());
+    // the sets are replaced, never changed, so they can be shared
 
-    return copy;
+    return new TaggingFilterCriteria(this.included, this.excluded, this.expression);
   }
 
-  boolean isAllowedToRun(Collection<String> tags) {
-    return !isExcluded(tags) && compliesWithRequired(tags);
+  boolean isAllowedToRun(BitSet tags) {
+    return !tags.intersects(this.excluded)
+        && (this.included.isEmpty() || tags.intersects(this.included))
+        && this.expression.matches(tags);
   }
 
-  private boolean isExcluded(Collection<String> tags) {
-    return tags.stream().anyMatch(this.excluded::contains);
-  }
-
-  private boolean compliesWithRequired(Collection<String> tags) {
-    return this.included.isEmpty()
-        || tags.stream().anyMatch(this.included::contains);
+  private static BitSet fromSystemProperty(final String property) {
+    return Optional.ofNullable(System.getProperty(property))
+        .map(string -> Arrays.stream(string.split(TAGS_SEPARATOR))
+            .filter(tag -> !tag.isEmpty())
+            .toArray(String[]::new))
+        .map(Tags::of)
+        .orElseGet(BitSet::new);
   }
 
-  private Stream<String> fromSystemProperty(final String property) {
-    return Optional.ofNullable(System.getProperty(property))
-        .map(string -> Arrays.stream(string.split(TaggingFilterCriteria.TAGS_SEPARATOR))
-            .filter(tag -> !tag.isEmpty()))
-        .orElse(Stream.empty());
+  private static TagExpression expressionFromSystemProperty() {
+    // parsed once, however many test classes there are
+    return Optional.ofNullable(System.getProperty(Configure.TAGS_PROPERTY))
+        .map(property -> compiledExpressions.computeIfAbsent(property, TagExpression::compile))
+        .orElse(TagExpression.ANYTHING);
   }
 }
@@ -0,0 +1,43 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tag names as small whole numbers, so that a set of tags is a {@link BitSet} and
+ * checking tags costs a few word operations, however many tags there are.
+ */
+final class Tags {
+  private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+  private Tags() {}
+
+  /**
+   * The id of a tag, the same for the life of the JVM.
+   * @param tag name of the tag
+   * @return its id
+   */
+  static int idOf(final String tag) {
+    final Integer id = ids.get(tag);
+    if (id != null) {
+      return id;
+    }
+    synchronized (ids) {
+      return ids.computeIfAbsent(tag, name -> ids.size());
+    }
+  }
+
+  /**
+   * The set of the given tags.
+   * @param tags names of the tags
+   * @return the ids of the tags
+   */
+  static BitSet of(final String... tags) {
+    final BitSet set = new BitSet();
+    for (final String tag : tags) {
+      set.set(idOf(tag));
+    }
+
+    return set;
+  }
+}
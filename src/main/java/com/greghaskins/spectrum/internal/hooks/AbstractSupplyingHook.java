@@ -1,7 +1,6 @@
 package com.greghaskins.spectrum.internal.hooks;
 
 import com.greghaskins.spectrum.Block;
-import com.greghaskins.spectrum.Variable;
 import com.greghaskins.spectrum.internal.DeclarationState;
 import com.greghaskins.spectrum.internal.RunReporting;
 
@@ -14,12 +13,11 @@ import org.junit.runner.notification.Failure;
  * <p>Override {@link #before} or {@link #after}. Return the singleton value from the before method.
  * You can use this to write any plugin which needs to make a value visible to the specs.
  * This is not the only way to achieve that - you can also build from {@link SupplyingHook}
- * but this captures the template for a complex hook.
+ * but this captures the template for a complex hook. The value is held in the
+ * {@link ExecutionContext} of the running test, so tests running at the same time do not share it.
  */
 abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
 
-  private final Variable<T> value = new Variable<>();
-
   /**
    * Override this to supply behaviour for before the block is run.
    *
@@ -51,14 +49,15 @@ abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
   @Override
   public void accept(final Description description, final RunReporting<Description, Failure> reporting,
       final Block block) throws Throwable {
+    final ExecutionContext context = ExecutionContext.current();
     try {
-      this.value.set(before());
+      context.put(this, before());
       block.run();
     } finally {
       try {
         after();
       } finally {
-        clear();
+        clear(context, description, reporting);
       }
     }
   }
@@ -67,11 +66,20 @@ abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
   public T get() {
     assertSpectrumIsRunningTestsNotDeclaringThem();
 
-    return this.value.get();
+    return ExecutionContext.current().get(this);
   }
 
-  private void clear() {
-    this.value.set(null);
+  /**
+   * Override this to finish with the value once the block has run.
+   *
+   * @param context the context the value is held in
+   * @param description the test node which was run
+   * @param reporting where to report failures once the test is over
+   * @throws Exception if the value can't be finished with cleanly
+   */
+  protected void clear(final ExecutionContext context, final Description description,
+      final RunReporting<Description, Failure> reporting) throws Exception {
+    context.remove(this);
   }
 
   /**
@@ -0,0 +1,196 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of {@code asyncEagerLet} - an {@link EagerLetHook eagerLet} whose value is
+ * calculated in the background.
+ *
+ * <p>At the start of the spec the supplier is handed to a pool of threads, and the rest of the
+ * hooks go on without waiting for it. So the suppliers of every {@code asyncEagerLet} in force run
+ * at the same time, alongside any {@code beforeEach} blocks. They are all waited for by the
+ * {@link #awaitingSetUp() innermost hook}, just before the spec itself runs, and the first of them
+ * to fail, in the order they were declared, fails the spec. Using the value before then waits for
+ * just that value.
+ *
+ * <p>Waiting can be interrupted - by a deadline, say - and a supplier still running when the spec
+ * is interrupted or over is cancelled. The supplier runs in the context of the spec, so it may use
+ * the values of other hooks.
+ */
+public class AsyncEagerLetHook<T> implements SupplyingHook<T> {
+  // the values being calculated for the spec, in the order their hooks ran
+  private static final Object PENDING = new Object();
+
+  private static final int THREADS = Math.max(8, 4 * Runtime.getRuntime().availableProcessors());
+  private static final ThreadPoolExecutor SET_UP_THREADS = newSetUpThreads();
+
+  private final ThrowingSupplier<T> supplier;
+
+  public AsyncEagerLetHook(final ThrowingSupplier<T> supplier) {
+    this.supplier = supplier;
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block)
+      throws Throwable {
+    final ExecutionContext context = ExecutionContext.current();
+    final FutureTask<T> value = new FutureTask<>(this::supply);
+    SET_UP_THREADS.execute(ExecutionContext.inThisContext(value));
+    context.put(this, value);
+    pendingIn(context).add(value);
+    try {
+      block.run();
+    } finally {
+      // never leave a supplier running once the spec is over
+      value.cancel(true);
+      context.remove(this);
+      if (value.isDone() && !value.isCancelled()) {
+        ValueCloser.close(valueOf(value), description, reporting);
+      }
+    }
+  }
+
+  @Override
+  public T get() {
+    if (DeclarationState.instance().getCurrentSuiteBeingDeclared() != null) {
+      throw new IllegalStateException("Cannot use the value from asyncEagerLet() in a suite "
+          + "declaration. It may only be used in the context of a running spec.");
+    }
+    final FutureTask<T> value = ExecutionContext.current().get(this);
+    if (value == null) {
+      throw new IllegalStateException("The value from asyncEagerLet() may only be used in the "
+          + "context of a running spec, not in a beforeAll or afterAll block.");
+    }
+    try {
+      return value.get();
+    } catch (final InterruptedException interruption) {
+      value.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the value from "
+          + "asyncEagerLet()", interruption);
+    } catch (final ExecutionException | CancellationException failed) {
+      throw new IllegalStateException("The value from asyncEagerLet() could not be calculated",
+          failed instanceof ExecutionException ? failed.getCause() : failed);
+    }
+  }
+
+  /**
+   * Provide the hook which waits for every value still being calculated for the spec. It goes
+   * inside all of the spec's other hooks, so runs just before the spec itself.
+   * @return the hook
+   */
+  public static Hook awaitingSetUp() {
+    return (description, reporting, block) -> {
+      awaitSetUp();
+      block.run();
+    };
+  }
+
+  /**
+   * Wait for every value still being calculated for the spec running on this thread.
+   * @throws Throwable the failure of the first value, in the order the hooks ran, which could
+   *         not be calculated - with the failures of any later ones suppressed - or the
+   *         interruption of the wait, which cancels every value still being calculated
+   */
+  private static void awaitSetUp() throws Throwable {
+    final List<FutureTask<?>> pending = ExecutionContext.current().remove(PENDING);
+    if (pending == null) {
+      return;
+    }
+
+    Throwable firstFailure = null;
+    for (final FutureTask<?> value : pending) {
+      final Throwable failure = await(value, pending);
+      if (failure == null) {
+        continue;
+      }
+      if (firstFailure == null) {
+        firstFailure = failure;
+      } else {
+        firstFailure.addSuppressed(failure);
+      }
+    }
+    if (firstFailure != null) {
+      throw firstFailure;
+    }
+  }
+
+  private T supply() throws Exception {
+    try {
+      return this.supplier.getOrThrow();
+    } catch (final Exception | Error failure) {
+      throw failure;
+    } catch (final Throwable failure) {
+      throw new UndeclaredThrowableException(failure);
+    }
+  }
+
+  private static List<FutureTask<?>> pendingIn(final ExecutionContext context) {
+    return context.getOrSupply(PENDING, () -> Collections.synchronizedList(new ArrayList<>()));
+  }
+
+  private static Throwable await(final FutureTask<?> value, final List<FutureTask<?>> pending)
+      throws InterruptedException {
+    try {
+      value.get();
+
+      return null;
+    } catch (final InterruptedException interruption) {
+      pending.forEach(each -> each.cancel(true));
+      throw interruption;
+    } catch (final ExecutionException failed) {
+      return failed.getCause();
+    }
+  }
+
+  private static <T> T valueOf(final FutureTask<T> value) {
+    try {
+      return value.get();
+    } catch (final InterruptedException | ExecutionException notAvailable) {
+      return null;
+    }
+  }
+
+  private static ThreadPoolExecutor newSetUpThreads() {
+    final ThreadPoolExecutor threads = new ThreadPoolExecutor(THREADS, THREADS, 30,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new SetUpThreadFactory());
+    threads.allowCoreThreadTimeOut(true);
+
+    return threads;
+  }
+
+  /**
+   * Daemon threads, so that a supplier which never returns can't keep the JVM alive.
+   */
+  private static final class SetUpThreadFactory implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final Thread thread = new Thread(runnable, "spectrum-set-up-" + this.count.incrementAndGet());
+      thread.setDaemon(true);
+
+      return thread;
+    }
+  }
+}
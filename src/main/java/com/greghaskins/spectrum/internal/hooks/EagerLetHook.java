@@ -1,12 +1,17 @@
 package com.greghaskins.spectrum.internal.hooks;
 
 import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
 
 /**
  * Implementation of an eager version of {@code let}.
  *
  * <p>Sematics are the same as with {@link LetHook}, except that all values are calculated at the
- * start of the test, rather than on an as-needed basis.
+ * start of the test, rather than on an as-needed basis. Values which are {@link AutoCloseable}
+ * are closed when the test is over.
  */
 public class EagerLetHook<T> extends AbstractSupplyingHook<T> {
   private final ThrowingSupplier<T> supplier;
@@ -19,6 +24,12 @@ public class EagerLetHook<T> extends AbstractSupplyingHook<T> {
     return supplier.get();
   }
 
+  @Override
+  protected void clear(final ExecutionContext context, final Description description,
+      final RunReporting<Description, Failure> reporting) throws Exception {
+    ValueCloser.close(context.remove(this), description, reporting);
+  }
+
   protected String getExceptionMessageIfUsedAtDeclarationTime() {
     return "Cannot use the value from eagerLet() in a suite declaration. "
         + "It may only be used in the context of a running spec.";
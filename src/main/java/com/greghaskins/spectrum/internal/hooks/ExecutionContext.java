@@ -0,0 +1,173 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * The values that {@link SupplyingHook hooks} are providing to one running spec. Each spec runs
+ * in a context of its own, so specs which run at the same time never see each other's values.
+ * The context belongs to the thread running the spec, and to any thread that it starts.
+ *
+ * <p>Values are stored against a key, which is normally the hook supplying them. A hook reserves
+ * its key in the context it applies to. A context created inside another - for example by a
+ * spec which runs a nested set of specs - can still reach the values of the enclosing context.
+ */
+public final class ExecutionContext {
+  private static final InheritableThreadLocal<ExecutionContext> current =
+      new InheritableThreadLocal<>();
+
+  // stand in for null, which the map can't hold, and for a key with no value yet
+  private static final Object NULL_VALUE = new Object();
+  private static final Object NOT_SUPPLIED = new Object();
+
+  private final ExecutionContext enclosing;
+  private final ConcurrentMap<Object, Object> values = new ConcurrentHashMap<>();
+
+  private ExecutionContext(final ExecutionContext enclosing) {
+    this.enclosing = enclosing;
+  }
+
+  /**
+   * Run something in a new, empty context, restoring the previous context afterwards.
+   * @param runnable what to run in the new context
+   */
+  public static void runInNewContext(final Runnable runnable) {
+    final ExecutionContext previous = current.get();
+    current.set(new ExecutionContext(previous));
+    try {
+      runnable.run();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  /**
+   * Make something run in the context this thread is in now, whichever thread runs it. Threads
+   * in a pool don't inherit the context of the thread which hands them work.
+   * @param runnable what to run
+   * @return what to run in this thread's context
+   */
+  public static Runnable inThisContext(final Runnable runnable) {
+    final ExecutionContext context = current.get();
+
+    return () -> {
+      final ExecutionContext previous = current.get();
+      restore(context);
+      try {
+        runnable.run();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  /**
+   * Provide the context of the running spec.
+   * @return the context in force on this thread
+   * @throws IllegalStateException if no spec is running on this thread
+   */
+  public static ExecutionContext current() {
+    final ExecutionContext context = current.get();
+    if (context == null) {
+      throw new IllegalStateException("Values supplied to specs may only be used "
+          + "on the thread of a running spec, or threads it starts.");
+    }
+
+    return context;
+  }
+
+  /**
+   * Reserve the key in this context, without a value yet.
+   * @param key what a value may later be stored against
+   */
+  public void reserve(final Object key) {
+    this.values.put(key, NOT_SUPPLIED);
+  }
+
+  /**
+   * Get the value stored against the key.
+   * @param key what the value was stored against
+   * @param <T> type of value
+   * @return the value, or null if there is none
+   */
+  public <T> T get(final Object key) {
+    final Object value = ownerOf(key).values.get(key);
+
+    return value == NOT_SUPPLIED ? null : unwrap(value);
+  }
+
+  /**
+   * Get the value stored against the key, calling the supplier to provide it if there is none
+   * yet. If two threads race to provide the value, both see the value that was stored first.
+   * @param key what the value is stored against
+   * @param supplier provides the value - may itself use other values from the context
+   * @param <T> type of value
+   * @return the value in this context
+   */
+  public <T> T getOrSupply(final Object key, final Supplier<T> supplier) {
+    final ConcurrentMap<Object, Object> ownerValues = ownerOf(key).values;
+    final Object existing = ownerValues.get(key);
+    if (existing != null && existing != NOT_SUPPLIED) {
+      return unwrap(existing);
+    }
+
+    final Object supplied = wrap(supplier.get());
+    final boolean stored = existing == null
+        ? ownerValues.putIfAbsent(key, supplied) == null
+        : ownerValues.replace(key, NOT_SUPPLIED, supplied);
+
+    return stored ? unwrap(supplied) : unwrap(ownerValues.get(key));
+  }
+
+  /**
+   * Store a value against a key in this context.
+   * @param key what to store the value against
+   * @param value the value - may be null
+   */
+  public void put(final Object key, final Object value) {
+    this.values.put(key, wrap(value));
+  }
+
+  /**
+   * Remove the key from this context.
+   * @param key what the value was stored against
+   * @param <T> type of value
+   * @return the value that was removed, or null if there was none
+   */
+  public <T> T remove(final Object key) {
+    final Object value = this.values.remove(key);
+
+    return value == NOT_SUPPLIED ? null : unwrap(value);
+  }
+
+  /**
+   * The innermost context which holds the key, or this one if none of them do.
+   */
+  private ExecutionContext ownerOf(final Object key) {
+    for (ExecutionContext context = this; context != null; context = context.enclosing) {
+      if (context.values.containsKey(key)) {
+        return context;
+      }
+    }
+
+    return this;
+  }
+
+  private static void restore(final ExecutionContext previous) {
+    if (previous == null) {
+      current.remove();
+    } else {
+      current.set(previous);
+    }
+  }
+
+  private static Object wrap(final Object value) {
+    return value == null ? NULL_VALUE : value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T unwrap(final Object value) {
+    return value == NULL_VALUE ? null : (T) value;
+  }
+}
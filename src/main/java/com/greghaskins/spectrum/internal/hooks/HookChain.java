@@ -0,0 +1,93 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import static com.greghaskins.spectrum.internal.blocks.NotifyingBlock.wrapWithReporting;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.blocks.NotifyingBlock;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
+
+/**
+ * A chain of responsibility made from {@link Hooks}, sorted into execution order once when it
+ * is compiled. The chain is immutable, so it can be run around any number of blocks, from any
+ * number of threads.
+ */
+public final class HookChain {
+  private final Hook[] hooks;
+  private final boolean[] innerReportsItself;
+
+  /**
+   * Compile the chain.
+   * @param sortedHooks the hooks in the order {@link Hooks#sorted()} puts them - the last one
+   *        runs outermost
+   */
+  HookChain(final List<HookContext> sortedHooks) {
+    final int length = sortedHooks.size();
+    this.hooks = new Hook[length];
+    for (int level = 0; level < length; level++) {
+      this.hooks[level] = sortedHooks.get(length - 1 - level).getHook();
+    }
+
+    // the block at the very centre is never self-reporting
+    this.innerReportsItself = new boolean[length];
+    for (int level = 0; level < length - 1; level++) {
+      this.innerReportsItself[level] = !this.hooks[level + 1].requiresUnreportedInnerBlock();
+    }
+  }
+
+  /**
+   * Execute the block inside the chain of hooks.
+   * @param description test node being run
+   * @param reporting test result notifier
+   * @param block to execute
+   */
+  public void runAround(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) {
+    NotifyingBlock.run(description, reporting,
+        () -> new Invocation(description, reporting, block).run());
+  }
+
+  /**
+   * One run of the chain around a block.
+   */
+  private final class Invocation {
+    private final Description description;
+    private final RunReporting<Description, Failure> reporting;
+    private final Block block;
+
+    // hooks may run the block on another thread
+    private volatile boolean hooksRememberedToRunTheInner;
+
+    Invocation(final Description description, final RunReporting<Description, Failure> reporting,
+        final Block block) {
+      this.description = description;
+      this.reporting = reporting;
+      this.block = block;
+    }
+
+    void run() throws Throwable {
+      runFrom(0);
+
+      if (!this.hooksRememberedToRunTheInner) {
+        throw new RuntimeException("At least one of the test hooks did not run the test block.");
+      }
+    }
+
+    private void runFrom(final int level) throws Throwable {
+      if (level == hooks.length) {
+        this.hooksRememberedToRunTheInner = true;
+        this.block.run();
+
+        return;
+      }
+
+      final Block inner = () -> runFrom(level + 1);
+      hooks[level].accept(this.description, this.reporting, innerReportsItself[level]
+          ? wrapWithReporting(this.description, this.reporting, inner) : inner);
+    }
+  }
+}
@@ -76,7 +76,12 @@ public class HookContext implements Comparable<HookContext> {
     /**
      * Local context - the order depends on declaration.
      */
-    LOCAL(5);
+    LOCAL(5),
+
+    /**
+     * Inside every other hook, just around the item itself.
+     */
+    INNERMOST(6);
 
     private int ordering;
 
@@ -1,16 +1,5 @@
 package com.greghaskins.spectrum.internal.hooks;
 
-import static com.greghaskins.spectrum.internal.blocks.NotifyingBlock.wrapWithReporting;
-import static com.greghaskins.spectrum.internal.hooks.NonReportingHook.nonReportingHookFrom;
-
-import com.greghaskins.spectrum.Block;
-import com.greghaskins.spectrum.Variable;
-import com.greghaskins.spectrum.internal.RunReporting;
-import com.greghaskins.spectrum.internal.blocks.NotifyingBlock;
-
-import org.junit.runner.Description;
-import org.junit.runner.notification.Failure;
-
 import java.util.ArrayList;
 import java.util.function.Predicate;
 
@@ -61,67 +50,12 @@ public class Hooks extends ArrayList<HookContext> {
   }
 
   /**
-   * Convert the hooks into a chain of responsibility and execute as
-   * a consumer of the given block.
-   * @param description test node being run
-   * @param reporting test result notifier
-   * @param block to execute
+   * Compile the hooks into a chain of responsibility, which can be run around
+   * any number of blocks without sorting the hooks again.
+   * @return the compiled chain
    */
-  public void runAround(final Description description, final RunReporting<Description, Failure> reporting,
-      final Block block) {
-    NotifyingBlock.run(description, reporting,
-        () -> runAroundInternal(description, reporting, block));
-  }
-
-  private void runAroundInternal(final Description description,
-      final RunReporting<Description, Failure> reporting,
-      final Block block) throws Throwable {
-    Variable<Boolean> hooksRememberedToRunTheInner = new Variable<>(false);
-
-    Hook chainOfResponsibility = createChainOfResponsibility(hooksRememberedToRunTheInner);
-    executeChain(description, reporting, block, chainOfResponsibility);
-
-    if (!hooksRememberedToRunTheInner.get()) {
-      throw new RuntimeException("At least one of the test hooks did not run the test block.");
-    }
-  }
-
-  private Hook createChainOfResponsibility(Variable<Boolean> hooksRememberedToRunTheInner) {
-    Hook chainOfResponsibility = innerHook(hooksRememberedToRunTheInner);
-
-    for (HookContext context : this) {
-      chainOfResponsibility = wrap(chainOfResponsibility, context);
-    }
-
-    return chainOfResponsibility;
-  }
-
-  private void executeChain(final Description description,
-      final RunReporting<Description, Failure> reporting,
-      final Block block, final Hook chainOfResponsibility) throws Throwable {
-    chainOfResponsibility.accept(description, reporting, block);
-  }
-
-  private Hook innerHook(final Variable<Boolean> hooksRememberedToRunTheInner) {
-    return nonReportingHookFrom((description, reporting, block) -> {
-      hooksRememberedToRunTheInner.set(true);
-      block.run();
-    });
-  }
-
-  private Hook wrap(final Hook inner, final HookContext outer) {
-    return (description, reporting, block) -> outer.getHook().accept(description, reporting,
-        conditionallyWrapWithReporting(inner, description, reporting,
-            () -> inner.accept(description, reporting, block)));
-  }
-
-  private static Block conditionallyWrapWithReporting(final Hook forHook, final Description description,
-      final RunReporting<Description, Failure> reporting, final Block innerBlock) {
-    if (forHook.requiresUnreportedInnerBlock()) {
-      return innerBlock;
-    }
-
-    return wrapWithReporting(description, reporting, innerBlock);
+  public HookChain compile() {
+    return new HookChain(sorted());
   }
 
   private Hooks filtered(Predicate<HookContext> predicate) {
@@ -0,0 +1,96 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+/**
+ * Implementation of {@code letAll} as a supplying hook which runs once around a suite.
+ *
+ * <p>The value is lazily initialized the first time any spec in the suite, or in the suites
+ * inside it, needs it, and then shared by all of them - even those running at the same time. It
+ * is discarded when the suite finishes, and closed then if it is {@link AutoCloseable}.
+ */
+public class LetAllHook<T> implements SupplyingHook<T> {
+  private final ThrowingSupplier<T> supplier;
+
+  public LetAllHook(final ThrowingSupplier<T> supplier) {
+    this.supplier = supplier;
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block)
+      throws Throwable {
+    final ExecutionContext context = ExecutionContext.current();
+    final Memo<T> memo = new Memo<>(this.supplier);
+    context.put(this, memo);
+    try {
+      block.run();
+    } finally {
+      context.remove(this);
+      memo.close();
+    }
+  }
+
+  @Override
+  public T get() {
+    if (DeclarationState.instance().getCurrentSuiteBeingDeclared() != null) {
+      throw new IllegalStateException("Cannot use the value from letAll() in a suite declaration. "
+          + "It may only be used in the context of a running spec.");
+    }
+    final Memo<T> memo = ExecutionContext.current().get(this);
+    if (memo == null) {
+      throw new IllegalStateException(
+          "The value from letAll() may only be used within the suite which declares it.");
+    }
+
+    return memo.get();
+  }
+
+  /**
+   * The value for one run of the suite, supplied at most once.
+   */
+  private static final class Memo<T> {
+    private final ThrowingSupplier<T> supplier;
+    private boolean supplied;
+    private T value;
+    private RuntimeException failure;
+    private Error error;
+
+    Memo(final ThrowingSupplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    synchronized T get() {
+      if (!this.supplied) {
+        this.supplied = true;
+        try {
+          this.value = this.supplier.get();
+        } catch (final RuntimeException supplierFailed) {
+          this.failure = supplierFailed;
+        } catch (final Error supplierFailed) {
+          this.error = supplierFailed;
+        }
+      }
+      if (this.failure != null) {
+        throw this.failure;
+      }
+      if (this.error != null) {
+        throw this.error;
+      }
+
+      return this.value;
+    }
+
+    synchronized void close() throws Exception {
+      if (this.value instanceof AutoCloseable) {
+        ((AutoCloseable) this.value).close();
+      }
+    }
+  }
+}
@@ -2,7 +2,6 @@ package com.greghaskins.spectrum.internal.hooks;
 
 import com.greghaskins.spectrum.Block;
 import com.greghaskins.spectrum.ThrowingSupplier;
-import com.greghaskins.spectrum.Variable;
 import com.greghaskins.spectrum.internal.DeclarationState;
 import com.greghaskins.spectrum.internal.RunReporting;
 
@@ -18,26 +17,29 @@ import org.junit.runner.notification.Failure;
  *
  * <p>Values are lazily initialized and then cached, so a value is not calculated until the first
  * time it is needed in a given test. Subsequent fetches of the value within the same test will
- * return the cached value.
+ * return the cached value. The cache lives in the {@link ExecutionContext} of the test, so tests
+ * running at the same time each get their own value.
+ *
+ * <p>Values which are {@link AutoCloseable} are closed when the test is over - see
+ * {@link ValueCloser}.
  */
 public class LetHook<T> implements SupplyingHook<T> {
   private final ThrowingSupplier<T> supplier;
-  private final Variable<T> cachedValue = new Variable<>();
-  private boolean isCached;
 
   public LetHook(final ThrowingSupplier<T> supplier) {
     this.supplier = supplier;
-    this.isCached = false;
   }
 
   @Override
   public void accept(final Description description,
       final RunReporting<Description, Failure> reporting, final Block block)
       throws Throwable {
+    final ExecutionContext context = ExecutionContext.current();
+    context.reserve(this);
     try {
       block.run();
     } finally {
-      clear();
+      clear(context, description, reporting);
     }
   }
 
@@ -45,13 +47,7 @@ public class LetHook<T> implements SupplyingHook<T> {
   public T get() {
     assertSpectrumIsRunningTestsNotDeclaringThem();
 
-    if (!this.isCached) {
-      this.cachedValue.set(supplier.get());
-
-      this.isCached = true;
-    }
-
-    return this.cachedValue.get();
+    return ExecutionContext.current().getOrSupply(this, this.supplier);
   }
 
   protected String getExceptionMessageIfUsedAtDeclarationTime() {
@@ -59,9 +55,16 @@ public class LetHook<T> implements SupplyingHook<T> {
         + "It may only be used in the context of a running spec.";
   }
 
-  private void clear() {
-    this.isCached = false;
-    this.cachedValue.set(null);
+  /**
+   * Finish with the value once the spec is over, closing it if it is {@link AutoCloseable}.
+   * @param context the context of the spec
+   * @param description the spec
+   * @param reporting where to report failures once the spec is over
+   * @throws Exception if the value can't be finished with cleanly
+   */
+  protected void clear(final ExecutionContext context, final Description description,
+      final RunReporting<Description, Failure> reporting) throws Exception {
+    ValueCloser.close(context.remove(this), description, reporting);
   }
 
   /**
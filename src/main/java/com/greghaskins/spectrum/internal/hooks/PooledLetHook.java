@@ -0,0 +1,120 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.ThrowingConsumer;
+import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Implementation of {@code pooledLet} - a {@link LetHook let} whose values are reset and reused
+ * rather than created afresh for every spec.
+ *
+ * <p>The first time a spec uses the value it takes one from the pool, or creates one if the pool
+ * is empty. When the spec finishes, the value is reset and returned to the pool. Specs running
+ * at the same time each have a value of their own. The pool keeps at most a fixed number of
+ * values - any beyond that, and any which fail to reset, are discarded. When the suite which
+ * declares the value finishes, the values left in the pool are discarded too. Discarded values
+ * are closed if they are {@link AutoCloseable}.
+ */
+public class PooledLetHook<T> extends LetHook<T> {
+  private final ThrowingConsumer<T> resetter;
+  private final BlockingQueue<T> pool;
+
+  /**
+   * Construct the hook.
+   * @param supplier creates values when the pool is empty
+   * @param resetter returns a used value to the state the supplier creates them in
+   * @param poolSize the most values to keep for reuse - at least 1
+   */
+  public PooledLetHook(final ThrowingSupplier<T> supplier, final ThrowingConsumer<T> resetter,
+      final int poolSize) {
+    this(new ArrayBlockingQueue<>(checked(poolSize)), supplier, resetter);
+  }
+
+  private PooledLetHook(final BlockingQueue<T> pool, final ThrowingSupplier<T> supplier,
+      final ThrowingConsumer<T> resetter) {
+    super(() -> {
+      final T pooled = pool.poll();
+
+      return pooled == null ? supplier.getOrThrow() : pooled;
+    });
+    this.pool = pool;
+    this.resetter = resetter;
+  }
+
+  private static int checked(final int poolSize) {
+    if (poolSize < 1) {
+      throw new IllegalArgumentException(
+          "A pooledLet() pool must keep at least 1 value, but its size was " + poolSize);
+    }
+
+    return poolSize;
+  }
+
+  @Override
+  protected void clear(final ExecutionContext context, final Description description,
+      final RunReporting<Description, Failure> reporting) throws Exception {
+    final T used = context.remove(this);
+    if (used == null) {
+      return;
+    }
+    try {
+      this.resetter.accept(used);
+    } catch (final Throwable resetFailed) {
+      discard(used);
+      throw new IllegalStateException("Could not reset the value from pooledLet()", resetFailed);
+    }
+    if (!this.pool.offer(used)) {
+      discard(used);
+    }
+  }
+
+  @Override
+  protected String getExceptionMessageIfUsedAtDeclarationTime() {
+    return "Cannot use the value from pooledLet() in a suite declaration. "
+        + "It may only be used in the context of a running spec.";
+  }
+
+  /**
+   * A hook to run once around the declaring suite, which empties the pool when it finishes.
+   * @return the hook
+   */
+  public Hook drainingThePoolAfterwards() {
+    return (description, reporting, block) -> {
+      try {
+        block.run();
+      } finally {
+        drain();
+      }
+    };
+  }
+
+  private void drain() throws Exception {
+    Exception firstFailure = null;
+    for (T pooled = this.pool.poll(); pooled != null; pooled = this.pool.poll()) {
+      try {
+        discard(pooled);
+      } catch (final Exception closeFailed) {
+        if (firstFailure == null) {
+          firstFailure = closeFailed;
+        } else {
+          firstFailure.addSuppressed(closeFailed);
+        }
+      }
+    }
+    if (firstFailure != null) {
+      throw firstFailure;
+    }
+  }
+
+  private static void discard(final Object value) throws Exception {
+    if (value instanceof AutoCloseable) {
+      ((AutoCloseable) value).close();
+    }
+  }
+}
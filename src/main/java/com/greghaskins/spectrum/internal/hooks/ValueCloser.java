@@ -0,0 +1,196 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Closes the {@link AutoCloseable} values which hooks supplied to a spec, once the spec is over.
+ *
+ * <p>Normally the value is closed straight away, on the thread running the spec, and a failure
+ * to close it fails the spec. When the {@value Configure#ASYNC_CLOSE_PROPERTY} system property
+ * is set, values are handed to a few background threads instead, so the next spec can start
+ * while they close. The spec is not reported finished until its values have closed, so a failure
+ * to close is still reported against it. At most {@value #QUEUE_SIZE} values wait to be closed -
+ * beyond that, the thread running the spec closes the value itself. The run waits for every
+ * value to close before it finishes.
+ */
+public final class ValueCloser {
+  static final int QUEUE_SIZE = 64;
+
+  private static final int THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  private final ThreadPoolExecutor closingThreads;
+  private final RunReporting<Description, Failure> reporting;
+
+  // the number of values still closing for each spec, and whether the spec has finished
+  private final Map<Description, Closing> closing = new IdentityHashMap<>();
+
+  private ValueCloser(final RunReporting<Description, Failure> reporting) {
+    this.reporting = reporting;
+    this.closingThreads = new ThreadPoolExecutor(THREADS, THREADS, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(QUEUE_SIZE), ValueCloser::newClosingThread,
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Run the whole of a run, closing values in the background if the
+   * {@value Configure#ASYNC_CLOSE_PROPERTY} system property asks for it, and waiting for them
+   * all to close before returning. Call this in the context of the run.
+   * @param reporting the reporting of the run
+   * @param run the run, given the reporting to use - which holds back the finishing of specs
+   *        while their values close
+   */
+  public static void closingInBackground(final RunReporting<Description, Failure> reporting,
+      final Consumer<RunReporting<Description, Failure>> run) {
+    // a run nested inside a spec of another run must not use the other run's closer
+    if (!Boolean.getBoolean(Configure.ASYNC_CLOSE_PROPERTY)) {
+      ExecutionContext.current().put(ValueCloser.class, null);
+      run.accept(reporting);
+
+      return;
+    }
+
+    final ValueCloser closer = new ValueCloser(reporting);
+    ExecutionContext.current().put(ValueCloser.class, closer);
+    try {
+      run.accept(closer.new HoldingBackFinished());
+    } finally {
+      closer.awaitClosed();
+    }
+  }
+
+  /**
+   * Close the value, if it can be closed.
+   * @param value the value a hook supplied to the spec - may be null
+   * @param description the spec which used the value
+   * @param reporting where to report a failure to close in the background
+   * @throws Exception if the value couldn't be closed straight away
+   */
+  public static void close(final Object value, final Description description,
+      final RunReporting<Description, Failure> reporting) throws Exception {
+    if (!(value instanceof AutoCloseable)) {
+      return;
+    }
+
+    final AutoCloseable closeable = (AutoCloseable) value;
+    final ValueCloser closer = ExecutionContext.current().get(ValueCloser.class);
+    if (closer == null) {
+      closeable.close();
+    } else {
+      closer.startClosing(description);
+      closer.closingThreads.execute(() -> {
+        try {
+          closeable.close();
+        } catch (final Throwable closeFailed) {
+          reporting.fireTestFailure(new Failure(description, closeFailed));
+        } finally {
+          closer.finishClosing(description);
+        }
+      });
+    }
+  }
+
+  private synchronized void startClosing(final Description description) {
+    this.closing.computeIfAbsent(description, spec -> new Closing()).values++;
+  }
+
+  private void finishClosing(final Description description) {
+    final boolean finished;
+    synchronized (this) {
+      final Closing spec = this.closing.get(description);
+      spec.values--;
+      finished = spec.values == 0 && spec.finished;
+      if (spec.values == 0) {
+        this.closing.remove(description);
+      }
+    }
+    if (finished) {
+      this.reporting.fireTestFinished(description);
+    }
+  }
+
+  private boolean holdBackFinished(final Description description) {
+    synchronized (this) {
+      final Closing spec = this.closing.get(description);
+      if (spec != null) {
+        spec.finished = true;
+      }
+
+      return spec != null;
+    }
+  }
+
+  // daemon threads, so that a value which never closes can't keep the JVM alive
+  private static Thread newClosingThread(final Runnable runnable) {
+    final Thread thread =
+        new Thread(runnable, "spectrum-closer-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+
+    return thread;
+  }
+
+  private static final class Closing {
+    int values;
+    boolean finished;
+  }
+
+  /**
+   * The reporting of the run, except that a spec whose values are still closing is reported
+   * finished once they have closed, rather than straight away.
+   */
+  private final class HoldingBackFinished implements RunReporting<Description, Failure> {
+    @Override
+    public void fireTestIgnored(final Description description) {
+      ValueCloser.this.reporting.fireTestIgnored(description);
+    }
+
+    @Override
+    public void fireTestStarted(final Description description) {
+      ValueCloser.this.reporting.fireTestStarted(description);
+    }
+
+    @Override
+    public void fireTestFinished(final Description description) {
+      if (!holdBackFinished(description)) {
+        ValueCloser.this.reporting.fireTestFinished(description);
+      }
+    }
+
+    @Override
+    public void fireTestFailure(final Failure failure) {
+      ValueCloser.this.reporting.fireTestFailure(failure);
+    }
+
+    @Override
+    public void fireTestAssumptionFailed(final Failure failure) {
+      ValueCloser.this.reporting.fireTestAssumptionFailed(failure);
+    }
+  }
+
+  private void awaitClosed() {
+    this.closingThreads.shutdown();
+    boolean interrupted = false;
+    while (!this.closingThreads.isTerminated()) {
+      try {
+        this.closingThreads.awaitTermination(1, TimeUnit.SECONDS);
+      } catch (final InterruptedException interruption) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
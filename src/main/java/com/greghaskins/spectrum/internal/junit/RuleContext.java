@@ -4,6 +4,7 @@ import static com.greghaskins.spectrum.internal.junit.StubJUnitFrameworkMethod.s
 
 import com.greghaskins.spectrum.Block;
 import com.greghaskins.spectrum.internal.blocks.ConstructorBlock;
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 
 import org.junit.AfterClass;
@@ -26,17 +27,20 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * Tracks a junit.rule that must be applied to all descendants of a suite.
+ * Tracks a junit.rule that must be applied to all descendants of a suite. Where the rules
+ * object is constructed for every test, each one is held in the {@link ExecutionContext} of its
+ * test, so tests running at the same time have an object each.
  */
 public class RuleContext<T> implements Supplier<T> {
   private final Class<T> ruleClass;
   private final TestClass testClass;
-  private T currentTestObject;
+  private final T currentTestObject;
   private final boolean constructEveryTime;
 
   RuleContext(final Class<T> ruleClass) {
     this.ruleClass = ruleClass;
     this.testClass = new TestClass(ruleClass);
+    this.currentTestObject = null;
     this.constructEveryTime = true;
   }
 
@@ -50,7 +54,7 @@ public class RuleContext<T> implements Supplier<T> {
 
   @Override
   public T get() {
-    return currentTestObject;
+    return constructEveryTime ? ExecutionContext.current().get(this) : currentTestObject;
   }
 
   /**
@@ -80,32 +84,34 @@ public class RuleContext<T> implements Supplier<T> {
    * @throws Throwable on error
    */
   private Statement decorate(final Statement base, final Description description) throws Throwable {
-    if (constructEveryTime) {
-      constructTestObject();
-    }
+    final T testObject = constructEveryTime ? constructTestObject() : currentTestObject;
 
-    return withTestRules(getTestRules(currentTestObject),
-        withMethodRules(base, getMethodRules(currentTestObject)), description);
+    return withTestRules(getTestRules(testObject),
+        withMethodRules(base, getMethodRules(testObject), testObject), description);
   }
 
-  private void constructTestObject() throws Throwable {
+  private T constructTestObject() throws Throwable {
     ConstructorBlock<T> constructor = new ConstructorBlock<>(ruleClass);
     constructor.run();
-    currentTestObject = constructor.get();
+    final T testObject = constructor.get();
+    ExecutionContext.current().put(this, testObject);
+
+    return testObject;
   }
 
-  private Statement withMethodRules(final Statement base, final List<MethodRule> methodRules) {
+  private Statement withMethodRules(final Statement base, final List<MethodRule> methodRules,
+      final T testObject) {
     FrameworkMethod method = stubFrameworkMethod();
 
-    return decorateWithMethodRules(base, methodRules, method);
+    return decorateWithMethodRules(base, methodRules, method, testObject);
   }
 
   private Statement decorateWithMethodRules(final Statement base,
       final List<MethodRule> methodRules,
-      final FrameworkMethod method) {
+      final FrameworkMethod method, final T testObject) {
     Statement result = base;
     for (MethodRule each : methodRules) {
-      result = each.apply(result, method, currentTestObject);
+      result = each.apply(result, method, testObject);
     }
 
     return result;
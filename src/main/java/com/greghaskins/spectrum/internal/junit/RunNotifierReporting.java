@@ -6,16 +6,16 @@ import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Wraps the JUnit RunNotifier with the Spectrum run reporting interface.
  */
 public class RunNotifierReporting implements RunReporting<Description, Failure> {
   private RunNotifier notifier;
-  private Set<FailureWrapper> reportedForFailure = new HashSet<>();
+  private Set<FailureWrapper> reportedForFailure = ConcurrentHashMap.newKeySet();
 
   static class FailureWrapper {
     private Failure failure;
@@ -70,10 +70,8 @@ public class RunNotifierReporting implements RunReporting<Description, Failure>
 
   @Override
   public void fireTestFailure(Failure failure) {
-    FailureWrapper wrapper = new FailureWrapper(failure);
-    if (!reportedForFailure.contains(wrapper)) {
+    if (reportedForFailure.add(new FailureWrapper(failure))) {
       notifier.fireTestFailure(failure);
-      reportedForFailure.add(wrapper);
     }
   }
 }
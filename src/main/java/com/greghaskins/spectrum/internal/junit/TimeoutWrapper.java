@@ -3,6 +3,7 @@ package com.greghaskins.spectrum.internal.junit;
 import static com.greghaskins.spectrum.internal.hooks.NonReportingHook.nonReportingHookFrom;
 import static com.greghaskins.spectrum.internal.junit.RuleContext.statementOf;
 
+import com.greghaskins.spectrum.Configure;
 import com.greghaskins.spectrum.internal.hooks.NonReportingHook;
 
 import org.junit.internal.runners.statements.FailOnTimeout;
@@ -15,12 +16,19 @@ import java.util.concurrent.TimeUnit;
  */
 public interface TimeoutWrapper {
   /**
-   * Convert the timeout into a {@link NonReportingHook} which executes
-   * the inner inside a daemon thread, failing if it takes too long.
+   * Convert the timeout into a {@link NonReportingHook} which fails the inner
+   * if it takes too long. Normally, the inner runs inside a daemon thread of its own.
+   * If the {@value Configure#TIMEOUT_WATCHDOG_PROPERTY} system property is true, it
+   * runs on the calling thread, watched by a shared {@link Watchdog}.
    * @param timeout duration of the timeout
    * @return hook which implements the timeout
    */
   static NonReportingHook timeoutHook(Duration timeout) {
+    if (Boolean.getBoolean(Configure.TIMEOUT_WATCHDOG_PROPERTY)) {
+      return nonReportingHookFrom(
+          (description, reporting, block) -> Watchdog.runWithTimeout(block, timeout));
+    }
+
     return nonReportingHookFrom(
         (description, reporting, block) -> withAppliedTimeout(FailOnTimeout.builder(), timeout)
             .build(statementOf(block))
@@ -0,0 +1,103 @@
+package com.greghaskins.spectrum.internal.junit;
+
+import com.greghaskins.spectrum.Block;
+
+import org.junit.runners.model.TestTimedOutException;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times out work on the thread that does it. One daemon thread, shared by every watchdog,
+ * watches the deadlines and interrupts any thread which overruns. Unlike JUnit's
+ * {@link org.junit.internal.runners.statements.FailOnTimeout}, no thread is started per block,
+ * but a block which ignores being interrupted will run on until it finishes before failing.
+ */
+public final class Watchdog {
+  private static final ScheduledThreadPoolExecutor scheduler = createScheduler();
+
+  private final Thread runner = Thread.currentThread();
+  private final ScheduledFuture<?> alarm;
+  private boolean finished;
+  private boolean timedOut;
+
+  private Watchdog(final Duration timeout) {
+    this.alarm = scheduler.schedule(this::timeOut, timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Run the block on this thread, failing it if it takes longer than the timeout.
+   * @param block to run
+   * @param timeout how long the block may take
+   * @throws Throwable the block's own error, or {@link TestTimedOutException} if it overran
+   */
+  public static void runWithTimeout(final Block block, final Duration timeout) throws Throwable {
+    final Watchdog watchdog = watch(timeout);
+    try {
+      block.run();
+    } catch (final Throwable error) {
+      if (!watchdog.stop()) {
+        throw error;
+      }
+    }
+    if (watchdog.stop()) {
+      throw new TestTimedOutException(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Start watching the current thread, which will be interrupted if it is still being watched
+   * once the timeout has passed.
+   * @param timeout how long the thread may carry on
+   * @return the watchdog, which must be stopped when the work is done
+   */
+  public static Watchdog watch(final Duration timeout) {
+    return new Watchdog(timeout);
+  }
+
+  /**
+   * Has the thread been interrupted for overrunning.
+   * @return true once the timeout has passed
+   */
+  public synchronized boolean hasTimedOut() {
+    return this.timedOut;
+  }
+
+  /**
+   * Stop watching the thread. Must be called on the watched thread.
+   * @return true if the thread timed out
+   */
+  public synchronized boolean stop() {
+    if (!this.finished) {
+      this.finished = true;
+      this.alarm.cancel(false);
+      if (this.timedOut) {
+        // the interrupt was ours, so it mustn't leak into whatever runs next on this thread
+        Thread.interrupted();
+      }
+    }
+
+    return this.timedOut;
+  }
+
+  private synchronized void timeOut() {
+    if (!this.finished) {
+      this.timedOut = true;
+      this.runner.interrupt();
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor createScheduler() {
+    final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, "spectrum-timeout-watchdog");
+      thread.setDaemon(true);
+
+      return thread;
+    });
+    scheduler.setRemoveOnCancelPolicy(true);
+
+    return scheduler;
+  }
+}
@@ -73,6 +73,21 @@ public class SpectrumHelper {
     return listener;
   }
 
+  /**
+   * Allows a listener to listen to a run.
+   * @param block the specs to execute via Spectrum
+   * @param listener the listener to use
+   * @param <T> type of listener
+   * @return the listener for fluent usage
+   */
+  public static <T extends RunListener> T runWithListener(final Block block, final T listener) {
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(listener);
+    new Spectrum(Description.createSuiteDescription(block.getClass()), block).run(notifier);
+
+    return listener;
+  }
+
   private static Result runWithJUnit(final Runner runner) {
     return new JUnitCore().run(Request.runner(runner));
   }
@@ -0,0 +1,183 @@
+package com.greghaskins.spectrum.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class AsyncDeliveryRunDecoratorTest {
+
+  @Test
+  public void deliversEveryEventInOrderBeforeClosing() {
+    RecordingReporting recording = new RecordingReporting();
+    try (AsyncDeliveryRunDecorator<String, String> decorator =
+        new AsyncDeliveryRunDecorator<>(recording)) {
+      decorator.fireTestStarted("a");
+      decorator.fireTestFailure("a");
+      decorator.fireTestFinished("a");
+      decorator.fireTestIgnored("b");
+      decorator.fireTestAssumptionFailed("c");
+    }
+
+    assertThat(recording.events,
+        contains("started a", "failure a", "finished a", "ignored b", "assumption c"));
+  }
+
+  @Test
+  public void keepsTheOrderOfEachTestWhenManyThreadsReport() throws Exception {
+    RecordingReporting recording = new RecordingReporting();
+    List<Thread> threads;
+    try (AsyncDeliveryRunDecorator<String, String> decorator =
+        new AsyncDeliveryRunDecorator<>(recording, 16, 4)) {
+      threads = IntStream.range(0, 8)
+          .mapToObj(number -> new Thread(() -> IntStream.range(0, 100).forEach(test -> {
+            String description = number + "." + test;
+            decorator.fireTestStarted(description);
+            decorator.fireTestFailure(description);
+            decorator.fireTestFinished(description);
+          })))
+          .collect(Collectors.toList());
+      threads.forEach(Thread::start);
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    }
+
+    assertThat(recording.events.size(), is(8 * 100 * 3));
+    Map<String, List<String>> byTest = new ConcurrentHashMap<>();
+    recording.events.forEach(event -> byTest
+        .computeIfAbsent(event.substring(event.indexOf(' ') + 1), key -> new ArrayList<>())
+        .add(event.substring(0, event.indexOf(' '))));
+    byTest.values().forEach(kinds -> assertThat(kinds, contains("started", "failure", "finished")));
+  }
+
+  @Test
+  public void makesReportingThreadsWaitWhenFull() throws Exception {
+    CountDownLatch deliveryMayProceed = new CountDownLatch(1);
+    RecordingReporting blocking = new RecordingReporting() {
+      @Override
+      public void fireTestStarted(String description) {
+        await(deliveryMayProceed);
+        super.fireTestStarted(description);
+      }
+    };
+
+    try (AsyncDeliveryRunDecorator<String, String> decorator =
+        new AsyncDeliveryRunDecorator<>(blocking, 2, 1)) {
+      CountDownLatch allFired = new CountDownLatch(1);
+      Thread reporter = new Thread(() -> {
+        IntStream.range(0, 5).forEach(number -> decorator.fireTestStarted("test " + number));
+        allFired.countDown();
+      });
+      reporter.start();
+
+      // the delivery thread holds one event, the queue two more, so the reporter must wait
+      assertThat(allFired.await(100, TimeUnit.MILLISECONDS), is(false));
+
+      deliveryMayProceed.countDown();
+      assertThat(allFired.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    assertEquals(5, blocking.events.size());
+  }
+
+  @Test
+  public void rethrowsDeliveryErrorsOnClose() {
+    RecordingReporting failing = new RecordingReporting() {
+      @Override
+      public void fireTestStarted(String description) {
+        throw new IllegalStateException("listener failed");
+      }
+    };
+
+    AsyncDeliveryRunDecorator<String, String> decorator =
+        new AsyncDeliveryRunDecorator<>(failing);
+    decorator.fireTestStarted("a");
+    try {
+      decorator.close();
+      fail("expected the delivery error");
+    } catch (IllegalStateException expected) {
+      assertThat(expected.getMessage(), is("listener failed"));
+    }
+  }
+
+  @Test
+  public void rethrowsDeliveryErrorsToTheNextReportingThreadAndDropsLaterEvents() {
+    RecordingReporting failing = new RecordingReporting() {
+      @Override
+      public void fireTestStarted(String description) {
+        throw new IllegalStateException("listener failed");
+      }
+    };
+
+    AsyncDeliveryRunDecorator<String, String> decorator =
+        new AsyncDeliveryRunDecorator<>(failing);
+    decorator.fireTestIgnored("a");
+    decorator.fireTestStarted("b");
+    decorator.fireTestFinished("b");
+    decorator.flush();
+    try {
+      decorator.fireTestStarted("c");
+      fail("expected the delivery error");
+    } catch (IllegalStateException expected) {
+      assertThat(expected.getMessage(), is("listener failed"));
+    }
+    try {
+      decorator.close();
+      fail("expected the delivery error");
+    } catch (IllegalStateException expected) {
+      assertThat(expected.getMessage(), is("listener failed"));
+    }
+    assertThat(failing.events, contains("ignored a"));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException interrupted) {
+      throw new RuntimeException(interrupted);
+    }
+  }
+
+  private static class RecordingReporting implements RunReporting<String, String> {
+    final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void fireTestIgnored(String description) {
+      events.add("ignored " + description);
+    }
+
+    @Override
+    public void fireTestStarted(String description) {
+      events.add("started " + description);
+    }
+
+    @Override
+    public void fireTestFinished(String description) {
+      events.add("finished " + description);
+    }
+
+    @Override
+    public void fireTestFailure(String failure) {
+      events.add("failure " + failure);
+    }
+
+    @Override
+    public void fireTestAssumptionFailed(String failure) {
+      events.add("assumption " + failure);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.greghaskins.spectrum.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+public class RepetitionTest {
+
+  @Test
+  public void keepsEveryDurationWhileTheSampleHasRoom() {
+    Repetition.Durations durations = new Repetition.Durations(10);
+    for (long duration = 5; duration >= 1; duration--) {
+      durations.add(duration);
+    }
+
+    assertThat(durations.count, is(5L));
+    assertThat(durations.total, is(15L));
+    assertThat(durations.max, is(5L));
+    assertThat(durations.sorted(), is(new long[] {1, 2, 3, 4, 5}));
+  }
+
+  @Test
+  public void keepsOnlyASampleOfTheDurationsOnceItIsFull() {
+    Repetition.Durations durations = new Repetition.Durations(100);
+    for (long duration = 1; duration <= 100_000; duration++) {
+      durations.add(duration);
+    }
+
+    assertThat(durations.count, is(100_000L));
+    assertThat(durations.max, is(100_000L));
+    assertThat(durations.sorted().length, is(100));
+  }
+}
@@ -5,6 +5,8 @@ import static com.greghaskins.spectrum.dsl.specification.Specification.it;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 import com.greghaskins.spectrum.Spectrum;
 
@@ -15,13 +17,13 @@ import org.junit.runner.Description;
 
 public class WhenDescribingTheSpec {
 
+  private Spectrum runner;
   private Description mainDescription;
 
   @Before
   public void before() throws Exception {
-    final Description rootDescription =
-        new Spectrum(getSpecWithNestedDescribeBlocks()).getDescription();
-    this.mainDescription = rootDescription.getChildren().get(0);
+    this.runner = new Spectrum(getSpecWithNestedDescribeBlocks());
+    this.mainDescription = this.runner.getDescription().getChildren().get(0);
   }
 
   @Test
@@ -41,6 +43,16 @@ public class WhenDescribingTheSpec {
     assertThat(this.mainDescription.getChildren().get(1).getChildren(), hasSize(1));
   }
 
+  @Test
+  public void theDescriptionIsBuiltOnceAndShared() throws Exception {
+    assertThat(this.runner.getDescription(), is(sameInstance(this.runner.getDescription())));
+  }
+
+  @Test
+  public void theTestCountIsTheNumberOfSpecs() throws Exception {
+    assertThat(this.runner.testCount(), is(4));
+  }
+
   private static Class<?> getSpecWithNestedDescribeBlocks() {
     class Spec {
       {
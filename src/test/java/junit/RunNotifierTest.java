@@ -2,12 +2,16 @@ package junit;
 
 import static com.greghaskins.spectrum.Spectrum.*;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsNot.not;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 
+import com.greghaskins.spectrum.Configure;
 import com.greghaskins.spectrum.Spectrum;
 import com.greghaskins.spectrum.SpectrumHelper;
 
@@ -17,13 +21,19 @@ import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runner.Description;
 import org.junit.runner.RunWith;
+import org.junit.runner.notification.RunListener;
 import org.junit.runner.notification.RunNotifier;
+import org.junit.runner.notification.StoppedByUserException;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.MethodSorters;
 import org.junit.runners.model.InitializationError;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * These tests are to lock down the exact behaviour of the {@link RunNotifier}
  * so that we can replicate "good citizenship". Proves the same behaviour with both
@@ -130,6 +140,55 @@ public class RunNotifierTest {
         inOrder.verify(notifier).fireTestFinished(forMethod("failsTransitively2"));
       });
     });
+
+    describe("RunNotifier run by Spectrum with asynchronous reporting", () -> {
+      beforeEach(() -> System.setProperty(Configure.ASYNC_REPORTING_PROPERTY, "true"));
+      afterEach(() -> System.clearProperty(Configure.ASYNC_REPORTING_PROPERTY));
+
+      it("Delivers every event before the run finishes", () -> {
+        RunNotifier notifier = runWithSpectrumNotifier(failingBeforeEachTest());
+        InOrder inOrder = Mockito.inOrder(notifier);
+        inOrder.verify(notifier).fireTestStarted(forMethod("failsTransitively1"));
+        inOrder.verify(notifier).fireTestFailure(any());
+        inOrder.verify(notifier).fireTestFinished(forMethod("failsTransitively1"));
+        inOrder.verify(notifier).fireTestStarted(forMethod("failsTransitively2"));
+        inOrder.verify(notifier).fireTestFailure(any());
+        inOrder.verify(notifier).fireTestFinished(forMethod("failsTransitively2"));
+        inOrder.verifyNoMoreInteractions();
+      });
+
+      it("Delivers events on a thread other than the spec's", () -> {
+        final Thread specThread = Thread.currentThread();
+        final List<Thread> deliveryThreads = new ArrayList<>();
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(new RunListener() {
+          @Override
+          public void testStarted(Description description) {
+            deliveryThreads.add(Thread.currentThread());
+          }
+        });
+        new Spectrum(onePassingSpectrumTest()).run(notifier);
+
+        assertThat(deliveryThreads.size(), is(1));
+        assertThat(deliveryThreads.get(0), not(specThread));
+      });
+
+      it("Stops the run soon after the user asks it to", () -> {
+        RunNotifier notifier = new RunNotifier();
+        StoppedByTheFirstSpec.notifier = notifier;
+        StoppedByTheFirstSpec.ran.clear();
+        try {
+          new Spectrum(StoppedByTheFirstSpec.class).run(notifier);
+          fail("expected the run to be stopped");
+        } catch (StoppedByUserException expected) {
+          // the run is stopped by the next event a spec fires
+        }
+
+        assertThat(StoppedByTheFirstSpec.ran, hasItem("spec 1"));
+        assertThat(StoppedByTheFirstSpec.ran, not(hasItem("spec 3")));
+        assertThat(StoppedByTheFirstSpec.ran, not(hasItem("spec 4")));
+      });
+    });
   }
 
   private Description forMethod(String name) {
@@ -323,6 +382,34 @@ public class RunNotifierTest {
     }
   }
 
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class StoppedByTheFirstSpec {
+    static RunNotifier notifier;
+    static final List<String> ran = Collections.synchronizedList(new ArrayList<>());
+
+    {
+      describe("A suite", () -> {
+        it("spec 1", () -> {
+          ran.add("spec 1");
+          notifier.pleaseStop();
+          Thread.sleep(50);
+        });
+        it("spec 2", () -> {
+          ran.add("spec 2");
+          Thread.sleep(50);
+        });
+        it("spec 3", () -> {
+          ran.add("spec 3");
+          Thread.sleep(50);
+        });
+        it("spec 4", () -> {
+          ran.add("spec 4");
+          Thread.sleep(50);
+        });
+      });
+    }
+  }
+
   private static void successfulAssertion() {
     assertThat("black", is("black"));
   }
@@ -0,0 +1,162 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.deadline;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.asyncEagerLet;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.let;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class AsyncEagerLetSpecs {
+  {
+    describe("The `asyncEagerLet` helper function", () -> {
+
+      final AtomicInteger supplied = new AtomicInteger();
+      final Supplier<List<String>> items = asyncEagerLet(() -> {
+        supplied.incrementAndGet();
+
+        return new ArrayList<>();
+      });
+
+      it("supplies a value before the spec runs", () -> {
+        assertThat(supplied.get(), is(1));
+        items.get().add("first spec");
+        assertThat(items.get(), contains("first spec"));
+      });
+
+      it("supplies a fresh value for each spec", () -> {
+        assertThat(items.get().isEmpty(), is(true));
+      });
+
+    });
+
+    describe("Several `asyncEagerLet` values", () -> {
+
+      // each supplier waits for the other, so they can only succeed at the same time
+      final CyclicBarrier bothStarted = new CyclicBarrier(2);
+      final Supplier<String> first = asyncEagerLet(() -> {
+        bothStarted.await(5, TimeUnit.SECONDS);
+
+        return "first";
+      });
+      final Supplier<String> second = asyncEagerLet(() -> {
+        bothStarted.await(5, TimeUnit.SECONDS);
+
+        return "second";
+      });
+
+      it("are calculated at the same time", () -> {
+        assertThat(first.get(), is("first"));
+        assertThat(second.get(), is("second"));
+      });
+
+    });
+
+    describe("An `asyncEagerLet` value", () -> {
+
+      final Supplier<String> name = let(() -> "let value");
+      final Supplier<String> greeting = asyncEagerLet(() -> "hello " + name.get());
+
+      it("can use the values of other hooks", () -> {
+        assertThat(greeting.get(), is("hello let value"));
+      });
+
+      it("can be used by a beforeEach block", () -> {
+        final List<String> events = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<String> slow = asyncEagerLet(() -> {
+            Thread.sleep(20);
+
+            return "slow";
+          });
+          beforeEach(() -> events.add(slow.get()));
+          it("runs afterwards", () -> events.add("spec"));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("slow", "spec"));
+      });
+
+      it("fails the spec with the first failure declared, without running it", () -> {
+        final List<String> events = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          asyncEagerLet(() -> {
+            Thread.sleep(20);
+            throw new IllegalStateException("first failure");
+          });
+          asyncEagerLet(() -> {
+            throw new IllegalStateException("second failure");
+          });
+          it("is not run", () -> events.add("spec"));
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getMessage(), is("first failure"));
+        assertThat(result.getFailures().get(0).getException().getSuppressed().length, is(1));
+        assertThat(events.isEmpty(), is(true));
+      });
+
+      it("can only be used in a spec", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<String> value = asyncEagerLet(() -> "value");
+          beforeAll(value::get);
+          it("is a spec", () -> {
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getMessage(),
+            containsString("may only be used in the context of a running spec"));
+      });
+
+      it("is cancelled when the spec runs out of time", () -> {
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final long started = System.nanoTime();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("a suite with a deadline", with(deadline(Duration.ofMillis(200)), () -> {
+            asyncEagerLet(() -> {
+              try {
+                Thread.sleep(10_000);
+              } catch (final InterruptedException interruption) {
+                interrupted.set(true);
+              }
+
+              return "too late";
+            });
+            it("waits for the value", () -> {
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(System.nanoTime() - started, is(lessThan(Duration.ofSeconds(5).toNanos())));
+        Thread.sleep(100);
+        assertThat(interrupted.get(), is(true));
+      });
+
+    });
+  }
+}
@@ -0,0 +1,103 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.benchmark;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.greghaskins.spectrum.Blackhole;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(Spectrum.class)
+public class BenchmarkSpecs {
+  {
+    describe("A benchmarked spec", () -> {
+
+      final PrintStream originalOutput = System.out;
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      beforeEach(() -> {
+        output.reset();
+        System.setOut(new PrintStream(output, true));
+      });
+      afterEach(() -> System.setOut(originalOutput));
+
+      it("is run for warmup and then measured, inside its hooks", () -> {
+        final AtomicInteger hooks = new AtomicInteger();
+        final AtomicInteger iterations = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          beforeEach(hooks::incrementAndGet);
+          it("is measured", with(benchmark(10, 100), () -> {
+            iterations.incrementAndGet();
+            Blackhole.consume(Math.sqrt(iterations.get()));
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(hooks.get(), is(1));
+        assertThat(iterations.get(), is(110));
+      });
+
+      it("writes its throughput and latency to the test output", () -> {
+        SpectrumHelper.run(() -> {
+          it("is measured", with(benchmark(0, 10), () -> Blackhole.consume("value".hashCode())));
+        });
+
+        final String report = output.toString();
+        assertThat(report, startsWith("Benchmark is measured"));
+        assertThat(report, containsString("ops/s over 10 iterations"));
+        assertThat(report, containsString("p99"));
+      });
+
+      it("applies to every spec in a suite", () -> {
+        final AtomicInteger iterations = new AtomicInteger();
+        SpectrumHelper.run(() -> {
+          describe("benchmarks", with(benchmark(0, 5), () -> {
+            it("first", iterations::incrementAndGet);
+            it("second", iterations::incrementAndGet);
+          }));
+        });
+
+        assertThat(iterations.get(), is(10));
+      });
+
+      it("fails when its throughput is below the minimum", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          it("is slow", with(benchmark(0, 3, 1000), () -> Thread.sleep(5)));
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getMessage(),
+            containsString("below the minimum of 1000.0 ops/s"));
+      });
+
+      it("stops at the first failure of the spec", () -> {
+        final AtomicInteger iterations = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          it("fails", with(benchmark(0, 10), () -> {
+            if (iterations.incrementAndGet() == 3) {
+              throw new AssertionError("third time unlucky");
+            }
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(iterations.get(), is(3));
+      });
+
+    });
+  }
+}
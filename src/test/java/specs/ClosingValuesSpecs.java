@@ -0,0 +1,153 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.eagerLet;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.let;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class ClosingValuesSpecs {
+  {
+    describe("An AutoCloseable value", () -> {
+
+      it("is closed at the end of each spec that uses it, when it comes from `let`", () -> {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        SpectrumHelper.run(() -> {
+          final Supplier<AutoCloseable> value = let(() -> () -> events.add("closed"));
+          it("uses it", () -> {
+            value.get();
+            events.add("spec");
+          });
+          it("doesn't use it", () -> events.add("spec"));
+        });
+
+        assertThat(events, contains("spec", "closed", "spec"));
+      });
+
+      it("is closed at the end of each spec, when it comes from `eagerLet`", () -> {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        SpectrumHelper.run(() -> {
+          eagerLet(() -> (AutoCloseable) () -> events.add("closed"));
+          it("is a spec", () -> events.add("spec"));
+          it("is another spec", () -> events.add("spec"));
+        });
+
+        assertThat(events, contains("spec", "closed", "spec", "closed"));
+      });
+
+      it("fails the spec when it can't be closed", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<AutoCloseable> value = let(() -> () -> {
+            throw new IllegalStateException("won't close");
+          });
+          it("uses it", value::get);
+          it("doesn't use it", () -> {
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(), is("uses it"));
+      });
+
+    });
+
+    describe("Closing values in the background", () -> {
+
+      afterEach(() -> System.clearProperty(Configure.ASYNC_CLOSE_PROPERTY));
+
+      it("closes them on another thread before the run finishes", () -> {
+        System.setProperty(Configure.ASYNC_CLOSE_PROPERTY, "true");
+        final List<String> closingThreads = Collections.synchronizedList(new ArrayList<>());
+        final String specThread = Thread.currentThread().getName();
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<AutoCloseable> value = let(() -> () -> {
+            Thread.sleep(20);
+            closingThreads.add(Thread.currentThread().getName());
+          });
+          it("uses it", value::get);
+          it("uses it again", value::get);
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(closingThreads.size(), is(2));
+        assertThat(closingThreads.get(0), is(not(specThread)));
+        assertThat(closingThreads.get(0), startsWith("spectrum-closer"));
+      });
+
+      it("reports a failure to close against the spec which used the value", () -> {
+        System.setProperty(Configure.ASYNC_CLOSE_PROPERTY, "true");
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<AutoCloseable> value = let(() -> () -> {
+            throw new IllegalStateException("won't close");
+          });
+          it("doesn't use it", () -> {
+          });
+          it("uses it", value::get);
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(), is("uses it"));
+        assertThat(result.getFailures().get(0).getMessage(), is("won't close"));
+      });
+
+      it("reports the spec finished only once its values have closed", () -> {
+        System.setProperty(Configure.ASYNC_CLOSE_PROPERTY, "true");
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        SpectrumHelper.runWithListener(() -> {
+          final Supplier<AutoCloseable> value = let(() -> () -> {
+            Thread.sleep(50);
+            throw new IllegalStateException("won't close");
+          });
+          it("uses it", value::get);
+          it("is next", () -> {
+          });
+        }, new RunListener() {
+          @Override
+          public void testStarted(final Description description) {
+            events.add("started " + description.getMethodName());
+          }
+
+          @Override
+          public void testFinished(final Description description) {
+            events.add("finished " + description.getMethodName());
+          }
+
+          @Override
+          public void testFailure(final Failure failure) {
+            events.add("failure " + failure.getDescription().getMethodName());
+          }
+        });
+
+        assertThat(events.indexOf("started uses it"), is(0));
+        assertThat(events.indexOf("failure uses it"),
+            is(lessThan(events.indexOf("finished uses it"))));
+        assertThat(events.indexOf("started is next"),
+            is(lessThan(events.indexOf("finished uses it"))));
+        assertThat(events.size(), is(5));
+      });
+
+    });
+  }
+}
@@ -1,5 +1,7 @@
 package specs;
 
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
 import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
 import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
 import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
@@ -28,8 +30,11 @@ import org.junit.runner.notification.Failure;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @RunWith(Spectrum.class)
 public class EagerLetSpecs {
@@ -254,6 +259,26 @@ public class EagerLetSpecs {
           assertThat(atomicInteger.get(), is(1));
         });
       });
+
+      describe("eager let in specs running in parallel", () -> {
+        it("gives each spec its own value", () -> {
+          final CyclicBarrier allValuesCreated = new CyclicBarrier(3);
+          final AtomicInteger counter = new AtomicInteger();
+          final Result result = SpectrumHelper.run(() -> {
+            describe("parallel suite", with(parallel(3), () -> {
+              final Supplier<Integer> value = eagerLet(counter::incrementAndGet);
+              IntStream.range(0, 3).forEach(number -> it("spec " + number, () -> {
+                final Integer valueBeforeOthersCreateTheirs = value.get();
+                allValuesCreated.await(5, TimeUnit.SECONDS);
+                assertThat(value.get(), is(valueBeforeOthersCreateTheirs));
+              }));
+            }));
+          });
+
+          assertThat(result.getFailureCount(), is(0));
+          assertThat(counter.get(), is(3));
+        });
+      });
     });
   }
 
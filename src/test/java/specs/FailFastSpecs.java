@@ -0,0 +1,159 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.failFast;
+import static com.greghaskins.spectrum.Configure.filterRun;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(Spectrum.class)
+public class FailFastSpecs {
+  {
+    describe("A run that fails fast", () -> {
+
+      it("skips everything after the first failure", () -> {
+        final List<String> ran = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          filterRun(failFast());
+          describe("first suite", () -> {
+            beforeEach(() -> ran.add("beforeEach"));
+            it("passes", () -> ran.add("passes"));
+            it("fails", () -> {
+              ran.add("fails");
+              throw new AssertionError("failure");
+            });
+            it("is skipped", () -> ran.add("is skipped"));
+          });
+          describe("second suite", () -> {
+            beforeAll(() -> ran.add("second beforeAll"));
+            it("is skipped too", () -> ran.add("is skipped too"));
+          });
+        });
+
+        assertThat(ran, contains("beforeEach", "passes", "beforeEach", "fails"));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getIgnoreCount(), is(2));
+      });
+
+      it("can allow a number of failures first", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          filterRun(failFast(2));
+          it("fails", () -> {
+            throw new AssertionError("failure");
+          });
+          it("passes", () -> {
+          });
+          it("fails again", () -> {
+            throw new AssertionError("failure");
+          });
+          it("is skipped", () -> {
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(result.getIgnoreCount(), is(1));
+      });
+
+      it("counts a spec failing in several places once", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          filterRun(failFast(2));
+          describe("suite", () -> {
+            afterEach(() -> {
+              throw new AssertionError("afterEach failure");
+            });
+            it("fails", () -> {
+              throw new AssertionError("failure");
+            });
+          });
+          it("still runs", () -> {
+          });
+        });
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getIgnoreCount(), is(0));
+      });
+
+      it("only applies to the suite which asks for it", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite which fails fast", () -> {
+            filterRun(failFast());
+            it("fails", () -> {
+              throw new AssertionError("failure");
+            });
+            it("is skipped", () -> {
+            });
+          });
+          it("still runs", () -> {
+          });
+        });
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getIgnoreCount(), is(1));
+      });
+    });
+
+    describe("The fail fast system property", () -> {
+
+      afterEach(() -> System.clearProperty(Configure.FAIL_FAST_PROPERTY));
+
+      it("stops every later test class once enough specs have failed", () -> {
+        // a number no other spec uses, since the count is shared across the JVM
+        System.setProperty(Configure.FAIL_FAST_PROPERTY, "3");
+        final Result first = SpectrumHelper.run(() -> {
+          it("fails", () -> {
+            throw new AssertionError("failure");
+          });
+          it("fails again", () -> {
+            throw new AssertionError("failure");
+          });
+        });
+        final Result second = SpectrumHelper.run(() -> {
+          it("fails a third time", () -> {
+            throw new AssertionError("failure");
+          });
+          it("is skipped", () -> {
+          });
+        });
+        final Result third = SpectrumHelper.run(() -> {
+          it("is skipped as well", () -> {
+          });
+        });
+
+        assertThat(first.getFailureCount(), is(2));
+        assertThat(second.getFailureCount(), is(1));
+        assertThat(second.getIgnoreCount(), is(1));
+        assertThat(third.getRunCount(), is(0));
+        assertThat(third.getIgnoreCount(), is(1));
+      });
+
+      it("must be true, false or a number", () -> {
+        System.setProperty(Configure.FAIL_FAST_PROPERTY, "soon");
+        try {
+          SpectrumHelper.run(() -> {
+          });
+          fail("expected the property to be rejected");
+        } catch (final IllegalArgumentException expected) {
+          assertThat(expected.getMessage(), containsString(Configure.FAIL_FAST_PROPERTY));
+        }
+      });
+    });
+  }
+}
@@ -0,0 +1,166 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.given;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.scenario;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.then;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.when;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import com.greghaskins.spectrum.Spectrum;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sorter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+@RunWith(Spectrum.class)
+public class FilterAndSortSpecs {
+  private static final List<String> events = new ArrayList<>();
+
+  {
+    describe("Filtering a spectrum runner", () -> {
+
+      it("runs only the selected spec", () -> {
+        final Spectrum runner = new Spectrum(getSpecWithTwoSuites());
+        runner.filter(Filter.matchMethodDescription(
+            Description.createTestDescription("first suite", "second spec")));
+
+        final Result result = run(runner);
+
+        assertThat(result.getRunCount(), is(1));
+        assertThat(result.getIgnoreCount(), is(0));
+        assertThat(events, contains("first beforeAll", "second spec", "first afterAll"));
+      });
+
+      it("doesn't run the hooks of suites with nothing selected", () -> {
+        final Spectrum runner = new Spectrum(getSpecWithTwoSuites());
+        runner.filter(Filter.matchMethodDescription(
+            Description.createTestDescription("second suite", "third spec")));
+
+        run(runner);
+
+        assertThat(events, contains("third spec"));
+      });
+
+      it("describes only what is left", () -> {
+        final Spectrum runner = new Spectrum(getSpecWithTwoSuites());
+        runner.filter(Filter.matchMethodDescription(
+            Description.createTestDescription("second suite", "third spec")));
+
+        assertThat(runner.testCount(), is(1));
+        assertThat(runner.getDescription().getChildren(),
+            contains(Description.createSuiteDescription("second suite")));
+      });
+
+      it("keeps every step of a scenario when one of them is selected", () -> {
+        final Spectrum runner = new Spectrum(getSpecWithAScenario());
+        runner.filter(Filter.matchMethodDescription(
+            Description.createTestDescription("Scenario: a scenario", "When a second step")));
+
+        final Result result = run(runner);
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("given", "when", "then"));
+      });
+
+      it("complains when nothing is selected", () -> {
+        final Spectrum runner = new Spectrum(getSpecWithTwoSuites());
+        try {
+          runner.filter(Filter.matchMethodDescription(
+              Description.createTestDescription("first suite", "no such spec")));
+          fail("expected no tests to remain");
+        } catch (final NoTestsRemainException expected) {
+          // expected
+        }
+      });
+
+    });
+
+    describe("Sorting a spectrum runner", () -> {
+
+      it("reorders the children of every suite", () -> {
+        final Spectrum runner = new Spectrum(getSpecWithTwoSuites());
+        runner.sort(new Sorter(reverseOrder()));
+
+        run(runner);
+
+        assertThat(events, contains("third spec",
+            "first beforeAll", "second spec", "first spec", "first afterAll"));
+      });
+
+      it("keeps the steps of a scenario in order", () -> {
+        final Spectrum runner = new Spectrum(getSpecWithAScenario());
+        runner.sort(new Sorter(reverseOrder()));
+
+        run(runner);
+
+        assertThat(events, contains("given", "when", "then"));
+      });
+
+    });
+  }
+
+  private static Result run(final Spectrum runner) {
+    events.clear();
+
+    return new JUnitCore().run(Request.runner(runner));
+  }
+
+  private static Comparator<Description> reverseOrder() {
+    return Collections.reverseOrder(Comparator.comparing(Description::getDisplayName));
+  }
+
+  private static Class<?> getSpecWithTwoSuites() {
+    events.clear();
+
+    class Spec {
+      {
+        describe("first suite", () -> {
+          beforeAll(() -> events.add("first beforeAll"));
+          afterAll(() -> events.add("first afterAll"));
+
+          it("first spec", () -> events.add("first spec"));
+          it("second spec", () -> events.add("second spec"));
+        });
+
+        describe("second suite", () -> {
+          it("third spec", () -> events.add("third spec"));
+        });
+      }
+    }
+
+    return Spec.class;
+  }
+
+  private static Class<?> getSpecWithAScenario() {
+    events.clear();
+
+    class Spec {
+      {
+        scenario("a scenario", () -> {
+          given("a first step", () -> events.add("given"));
+          when("a second step", () -> events.add("when"));
+          then("a third step", () -> events.add("then"));
+        });
+      }
+    }
+
+    return Spec.class;
+  }
+}
@@ -0,0 +1,163 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.globalFixture;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class GlobalFixtureSpecs {
+  private static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+  private static String key;
+
+  {
+    describe("A global fixture", () -> {
+
+      beforeEach(() -> System.setProperty(Configure.GLOBAL_FIXTURES_KEEP_ALIVE_PROPERTY, "false"));
+      afterEach(() -> {
+        System.clearProperty(Configure.GLOBAL_FIXTURES_KEEP_ALIVE_PROPERTY);
+        events.clear();
+      });
+
+      it("is shared by the test classes which declare it", () -> {
+        key = "shared by both";
+        final Spectrum first = new Spectrum(FirstTestClass.class);
+        final Spectrum second = new Spectrum(SecondTestClass.class);
+
+        run(first);
+        assertThat(events, contains("created", "first class"));
+
+        run(second);
+        assertThat(events, contains("created", "first class", "second class", "closed"));
+      });
+
+      it("is closed when no test class holds it any more", () -> {
+        key = "one after the other";
+        run(new Spectrum(FirstTestClass.class));
+        run(new Spectrum(SecondTestClass.class));
+
+        assertThat(events, contains("created", "first class", "closed",
+            "created", "second class", "closed"));
+      });
+
+      it("is given back by a test class with no specs left to run", () -> {
+        key = "filtered out";
+        final Spectrum first = new Spectrum(FirstTestClass.class);
+        final Spectrum second = new Spectrum(SecondTestClass.class);
+        try {
+          second.filter(Filter.matchMethodDescription(first.getDescription()));
+        } catch (final NoTestsRemainException expected) {
+          // the second test class is left with nothing to run
+        }
+
+        second.run(new RunNotifier());
+        run(first);
+
+        assertThat(events, contains("created", "first class", "closed"));
+      });
+
+      it("is kept until the JVM shuts down, unless asked otherwise", () -> {
+        System.clearProperty(Configure.GLOBAL_FIXTURES_KEEP_ALIVE_PROPERTY);
+        key = "kept alive";
+        run(new Spectrum(FirstTestClass.class));
+        run(new Spectrum(SecondTestClass.class));
+
+        assertThat(events, contains("created", "first class", "second class"));
+      });
+
+      it("isn't created if nothing uses it", () -> {
+        key = "never used";
+        final Result result = SpectrumHelper.run(() -> {
+          globalFixture(key, () -> events.add("created"));
+          it("doesn't use it", () -> {
+          });
+        });
+
+        assertThat(result.wasSuccessful(), is(true));
+        assertThat(events.isEmpty(), is(true));
+      });
+
+      it("isn't created again after it fails to be created", () -> {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<Object> broken = globalFixture("broken", () -> {
+            attempts.incrementAndGet();
+            throw new AssertionError("no broker");
+          });
+          it("uses it", broken::get);
+          it("uses it again", broken::get);
+        });
+
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(attempts.get(), is(1));
+      });
+
+      it("can only be declared in a suite declaration", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          it("declares it while running", () -> globalFixture("too late", Object::new));
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getMessage(),
+            containsString("may only be declared in a suite declaration"));
+      });
+
+    });
+  }
+
+  private static void run(final Spectrum runner) {
+    final Result result = new JUnitCore().run(Request.runner(runner));
+    assertThat(result.getFailures().toString(), result.wasSuccessful(), is(true));
+  }
+
+  private static AutoCloseable createFixture() {
+    events.add("created");
+
+    return () -> events.add("closed");
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class FirstTestClass {
+    {
+      final Supplier<AutoCloseable> fixture = globalFixture(key, GlobalFixtureSpecs::createFixture);
+      it("uses the fixture", () -> {
+        fixture.get();
+        events.add("first class");
+      });
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class SecondTestClass {
+    {
+      final Supplier<AutoCloseable> fixture = globalFixture(key, GlobalFixtureSpecs::createFixture);
+      it("uses the fixture", () -> {
+        fixture.get();
+        events.add("second class");
+      });
+    }
+  }
+}
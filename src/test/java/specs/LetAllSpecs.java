@@ -0,0 +1,145 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.letAll;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@RunWith(Spectrum.class)
+public class LetAllSpecs {
+  {
+    describe("The `letAll` helper function", () -> {
+
+      final AtomicInteger created = new AtomicInteger();
+      final Supplier<List<String>> items = letAll(() -> {
+        created.incrementAndGet();
+
+        return new ArrayList<>();
+      });
+
+      it("supplies a value for specs", () -> {
+        items.get().add("first spec");
+        assertThat(items.get(), contains("first spec"));
+      });
+
+      it("shares the value between the specs of the suite", () -> {
+        items.get().add("second spec");
+        assertThat(items.get(), contains("first spec", "second spec"));
+      });
+
+      describe("in a nested suite", () -> {
+        it("shares the value too", () -> {
+          assertThat(items.get(), contains("first spec", "second spec"));
+          assertThat(created.get(), is(1));
+        });
+      });
+
+    });
+
+    describe("A `letAll` value", () -> {
+
+      it("is not created if nothing uses it", () -> {
+        final AtomicInteger created = new AtomicInteger();
+        SpectrumHelper.run(() -> {
+          letAll(created::incrementAndGet);
+          it("doesn't use it", () -> {
+          });
+        });
+
+        assertThat(created.get(), is(0));
+      });
+
+      it("is closed when the suite finishes, after its afterAll blocks", () -> {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        SpectrumHelper.run(() -> {
+          describe("a suite", () -> {
+            final Supplier<AutoCloseable> resource = letAll(() -> () -> events.add("closed"));
+            afterAll(() -> events.add("afterAll"));
+            it("uses it", () -> {
+              resource.get();
+              events.add("spec");
+            });
+            it("uses it again", () -> {
+              resource.get();
+              events.add("spec");
+            });
+          });
+          it("runs after the suite", () -> events.add("next spec"));
+        });
+
+        assertThat(events, contains("spec", "spec", "afterAll", "closed", "next spec"));
+      });
+
+      it("is created once for specs running in parallel", () -> {
+        final AtomicInteger created = new AtomicInteger();
+        final Set<Object> seen = ConcurrentHashMap.newKeySet();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("a parallel suite", with(parallel(4), () -> {
+            final Supplier<Object> shared = letAll(() -> {
+              created.incrementAndGet();
+              Thread.sleep(20);
+
+              return new Object();
+            });
+            IntStream.range(0, 8).forEach(number ->
+                it("spec " + number, () -> seen.add(shared.get())));
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(created.get(), is(1));
+        assertThat(seen, hasSize(1));
+      });
+
+      it("fails every spec that uses it when it can't be created", () -> {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<Object> broken = letAll(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("no database");
+          });
+          it("uses it", broken::get);
+          it("uses it again", broken::get);
+        });
+
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(attempts.get(), is(1));
+
+        final Result errorResult = SpectrumHelper.run(() -> {
+          final Supplier<Object> broken = letAll(() -> {
+            attempts.incrementAndGet();
+            throw new AssertionError("no database");
+          });
+          it("uses it", broken::get);
+          it("uses it again", broken::get);
+        });
+
+        assertThat(errorResult.getFailureCount(), is(2));
+        assertThat(errorResult.getFailures().get(1).getMessage(), is("no database"));
+        assertThat(attempts.get(), is(2));
+      });
+
+    });
+  }
+}
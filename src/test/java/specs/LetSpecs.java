@@ -1,5 +1,7 @@
 package specs;
 
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
 import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
 import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
 import static com.greghaskins.spectrum.dsl.specification.Specification.context;
@@ -25,8 +27,11 @@ import org.junit.runner.notification.Failure;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @RunWith(Spectrum.class)
 public class LetSpecs {
@@ -235,6 +240,26 @@ public class LetSpecs {
           assertThat(atomicInteger.get(), is(1));
         });
       });
+
+      describe("let in specs running in parallel", () -> {
+        it("gives each spec its own value", () -> {
+          final CyclicBarrier allValuesCreated = new CyclicBarrier(3);
+          final AtomicInteger counter = new AtomicInteger();
+          final Result result = SpectrumHelper.run(() -> {
+            describe("parallel suite", with(parallel(3), () -> {
+              final Supplier<Integer> value = let(counter::incrementAndGet);
+              IntStream.range(0, 3).forEach(number -> it("spec " + number, () -> {
+                final Integer valueBeforeOthersCreateTheirs = value.get();
+                allValuesCreated.await(5, TimeUnit.SECONDS);
+                assertThat(value.get(), is(valueBeforeOthersCreateTheirs));
+              }));
+            }));
+          });
+
+          assertThat(result.getFailureCount(), is(0));
+          assertThat(counter.get(), is(3));
+        });
+      });
     });
   }
 
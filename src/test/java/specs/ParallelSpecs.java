@@ -0,0 +1,209 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.given;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.scenario;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.then;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.when;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.fail;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@RunWith(Spectrum.class)
+public class ParallelSpecs {
+  {
+    describe("A parallel suite", () -> {
+
+      it("runs its specs at the same time", () -> {
+        final CyclicBarrier bothStarted = new CyclicBarrier(2);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", with(parallel(2), () -> {
+            it("waits for the other spec", () -> bothStarted.await(5, TimeUnit.SECONDS));
+            it("waits for the first spec", () -> bothStarted.await(5, TimeUnit.SECONDS));
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("never runs more specs at once than its concurrency", () -> {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+        final Block spec = () -> {
+          mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          Thread.sleep(5);
+          running.decrementAndGet();
+        };
+
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", with(parallel(3), () -> {
+            IntStream.range(0, 20).forEach(number -> it("spec " + number, spec));
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(20));
+        assertThat(mostRunning.get(), lessThanOrEqualTo(3));
+      });
+
+      it("is inherited by nested suites", () -> {
+        final CyclicBarrier bothStarted = new CyclicBarrier(2);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", with(parallel(4), () -> {
+            describe("nested suite", () -> {
+              it("waits for the other spec", () -> bothStarted.await(5, TimeUnit.SECONDS));
+              it("waits for the first spec", () -> bothStarted.await(5, TimeUnit.SECONDS));
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("can be switched back to serial by a nested suite", () -> {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", with(parallel(4), () -> {
+            describe("nested suite", with(parallel(1), () -> {
+              it("first", () -> {
+                events.add("first started");
+                Thread.sleep(20);
+                events.add("first finished");
+              });
+              it("second", () -> {
+                events.add("second started");
+              });
+            }));
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("first started", "first finished", "second started"));
+      });
+
+      it("runs beforeAll once before any spec and afterAll once after all of them", () -> {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", with(parallel(4), () -> {
+            beforeAll(() -> {
+              Thread.sleep(20);
+              events.add("beforeAll");
+            });
+            afterAll(() -> events.add("afterAll"));
+            IntStream.range(0, 8).forEach(number -> it("spec " + number, () -> {
+              assertThat(events.get(0), is("beforeAll"));
+              events.add("spec");
+            }));
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events.size(), is(10));
+        assertThat(events.get(0), is("beforeAll"));
+        assertThat(events.get(9), is("afterAll"));
+      });
+
+      it("runs each spec inside its own beforeEach and afterEach", () -> {
+        final AtomicInteger setUps = new AtomicInteger();
+        final AtomicInteger tearDowns = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", with(parallel(4), () -> {
+            beforeEach(setUps::incrementAndGet);
+            afterEach(tearDowns::incrementAndGet);
+            IntStream.range(0, 10).forEach(number -> it("spec " + number, () -> {
+            }));
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(10));
+        assertThat(setUps.get(), is(10));
+        assertThat(tearDowns.get(), is(10));
+      });
+
+      it("runs the steps of a scenario in order", () -> {
+        final List<String> steps = Collections.synchronizedList(new ArrayList<>());
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", with(parallel(4), () -> {
+            scenario("ordered steps", () -> {
+              given("a first step", () -> {
+                Thread.sleep(20);
+                steps.add("given");
+              });
+              when("a second step", () -> steps.add("when"));
+              then("a third step", () -> steps.add("then"));
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(steps, contains("given", "when", "then"));
+      });
+
+      it("reports failures from specs running concurrently", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("suite", with(parallel(4), () -> {
+            IntStream.range(0, 6).forEach(number -> it("spec " + number, () -> {
+              throw new AssertionError("failure " + number);
+            }));
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(6));
+        assertThat(result.getFailureCount(), is(6));
+      });
+    });
+
+    describe("The parallel system property", () -> {
+
+      afterEach(() -> System.clearProperty(Configure.PARALLEL_PROPERTY));
+
+      it("runs every suite in parallel", () -> {
+        System.setProperty(Configure.PARALLEL_PROPERTY, "2");
+        final CyclicBarrier bothStarted = new CyclicBarrier(2);
+        final Result result = SpectrumHelper.run(() -> {
+          it("waits for the other spec", () -> bothStarted.await(5, TimeUnit.SECONDS));
+          it("waits for the first spec", () -> bothStarted.await(5, TimeUnit.SECONDS));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("must be a number", () -> {
+        System.setProperty(Configure.PARALLEL_PROPERTY, "lots");
+        try {
+          SpectrumHelper.run(() -> {
+          });
+          fail("expected the property to be rejected");
+        } catch (final IllegalArgumentException expected) {
+          assertThat(expected.getMessage(), containsString(Configure.PARALLEL_PROPERTY));
+        }
+      });
+    });
+  }
+}
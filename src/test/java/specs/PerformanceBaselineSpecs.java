@@ -0,0 +1,129 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.performanceBaseline;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.Variable;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(Spectrum.class)
+public class PerformanceBaselineSpecs {
+  {
+    describe("A spec with a performance baseline", () -> {
+
+      final Variable<File> baselines = new Variable<>();
+
+      final AtomicInteger runs = new AtomicInteger();
+      final AtomicInteger sleepMillis = new AtomicInteger();
+      final Block specWithBaseline = () -> {
+        describe("hot path", () -> {
+          it("is quick", with(performanceBaseline(0.5, 3), () -> {
+            runs.incrementAndGet();
+            Thread.sleep(sleepMillis.get());
+          }));
+        });
+      };
+
+      beforeEach(() -> {
+        final File file = File.createTempFile("baseline", ".txt");
+        file.delete();
+        baselines.set(file);
+        System.setProperty(Configure.BASELINE_PROPERTY, baselines.get().getAbsolutePath());
+        runs.set(0);
+        sleepMillis.set(0);
+      });
+
+      afterEach(() -> {
+        System.clearProperty(Configure.BASELINE_PROPERTY);
+        System.clearProperty(Configure.BASELINE_UPDATE_PROPERTY);
+        baselines.get().delete();
+        new File(baselines.get().getPath() + ".lock").delete();
+      });
+
+      it("records its median duration the first time it runs", () -> {
+        final Result result = SpectrumHelper.run(specWithBaseline);
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(runs.get(), is(3));
+        final List<String> lines =
+            Files.readAllLines(baselines.get().toPath(), StandardCharsets.UTF_8);
+        assertThat(lines.get(0), is("spectrum-baseline 1"));
+        assertThat(lines.get(1), endsWith(" / hot path / is quick"));
+      });
+
+      it("passes while it is no slower than its baseline allows", () -> {
+        sleepMillis.set(20);
+        SpectrumHelper.run(specWithBaseline);
+        final Result result = SpectrumHelper.run(specWithBaseline);
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("fails once it is slower than its baseline allows", () -> {
+        SpectrumHelper.run(specWithBaseline);
+        sleepMillis.set(50);
+        final Result result = SpectrumHelper.run(specWithBaseline);
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getMessage(),
+            containsString("more than 50% slower than the baseline"));
+      });
+
+      it("records a new baseline instead when asked to", () -> {
+        SpectrumHelper.run(specWithBaseline);
+        sleepMillis.set(50);
+        System.setProperty(Configure.BASELINE_UPDATE_PROPERTY, "true");
+        SpectrumHelper.run(specWithBaseline);
+        System.clearProperty(Configure.BASELINE_UPDATE_PROPERTY);
+        final Result result = SpectrumHelper.run(specWithBaseline);
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("records afresh when the file can't be read", () -> {
+        Files.write(baselines.get().toPath(), Arrays.asList("spectrum-base"),
+            StandardCharsets.UTF_8);
+        final Result result = SpectrumHelper.run(specWithBaseline);
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(Files.readAllLines(baselines.get().toPath(), StandardCharsets.UTF_8).get(0),
+            is("spectrum-baseline 1"));
+      });
+
+      it("keeps the baselines recorded meanwhile by other test JVMs", () -> {
+        SpectrumHelper.run(specWithBaseline);
+        Files.write(baselines.get().toPath(), Arrays.asList("1000\tsome other / spec"),
+            StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        System.setProperty(Configure.BASELINE_UPDATE_PROPERTY, "true");
+        SpectrumHelper.run(specWithBaseline);
+
+        assertThat(Files.readAllLines(baselines.get().toPath(), StandardCharsets.UTF_8),
+            hasItem("1000\tsome other / spec"));
+      });
+
+    });
+  }
+}
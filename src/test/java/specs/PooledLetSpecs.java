@@ -0,0 +1,190 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.pooledLet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.fail;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.ThrowingSupplier;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@RunWith(Spectrum.class)
+public class PooledLetSpecs {
+  {
+    describe("The `pooledLet` helper function", () -> {
+
+      final AtomicInteger created = new AtomicInteger();
+      final List<Object> used = new ArrayList<>();
+      final Supplier<List<String>> items = pooledLet(() -> {
+        created.incrementAndGet();
+
+        return new ArrayList<>();
+      }, List::clear);
+
+      it("supplies a value for specs", () -> {
+        items.get().add("first spec");
+        used.add(items.get());
+        assertThat(items.get(), contains("first spec"));
+      });
+
+      it("resets the value before the next spec uses it", () -> {
+        items.get().add("second spec");
+        used.add(items.get());
+        assertThat(items.get(), contains("second spec"));
+      });
+
+      it("reuses the value rather than creating another", () -> {
+        assertThat(used.get(1), is(sameInstance(used.get(0))));
+        items.get();
+        assertThat(created.get(), is(1));
+      });
+
+    });
+
+    describe("A `pooledLet` value", () -> {
+
+      it("is reset at the end of each spec that uses it", () -> {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        SpectrumHelper.run(() -> {
+          final Supplier<Object> value = pooledLet(Object::new, used -> events.add("reset"));
+          it("uses it", () -> {
+            value.get();
+            events.add("spec");
+          });
+          it("doesn't use it", () -> events.add("spec"));
+        });
+
+        assertThat(events, contains("spec", "reset", "spec"));
+      });
+
+      it("is distinct for each of the specs running at the same time", () -> {
+        final Set<Object> inUse = ConcurrentHashMap.newKeySet();
+        final AtomicInteger created = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("a parallel suite", with(parallel(4), () -> {
+            final ThrowingSupplier<Object> create = () -> {
+              created.incrementAndGet();
+
+              return new Object();
+            };
+            final Supplier<Object> value = pooledLet(create, used -> Thread.yield(), 4);
+            IntStream.range(0, 16).forEach(number ->
+                it("spec " + number, () -> {
+                  assertThat(inUse.add(value.get()), is(true));
+                  Thread.sleep(10);
+                  inUse.remove(value.get());
+                }));
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(created.get(), is(lessThanOrEqualTo(4)));
+      });
+
+      it("is closed when the pool is full, and when the suite finishes", () -> {
+        final AtomicInteger closed = new AtomicInteger();
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final Result result = SpectrumHelper.run(() -> {
+          describe("a parallel suite", with(parallel(4), () -> {
+            final Supplier<AutoCloseable> value =
+                pooledLet(() -> closed::incrementAndGet, used -> Thread.yield(), 1);
+            afterAll(() -> events.add("afterAll"));
+            IntStream.range(0, 4).forEach(number ->
+                it("spec " + number, () -> {
+                  value.get();
+                  Thread.sleep(20);
+                }));
+          }));
+          it("runs after the suite", () -> events.add("closed " + closed.get()));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("afterAll", "closed 4"));
+      });
+
+      it("fails the spec and is discarded when it can't be reset", () -> {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          final ThrowingSupplier<AutoCloseable> create = () -> {
+            created.incrementAndGet();
+
+            return closed::incrementAndGet;
+          };
+          final Supplier<AutoCloseable> value = pooledLet(create, used -> {
+            throw new IllegalStateException("stuck");
+          });
+          it("uses it", value::get);
+          it("uses it again", value::get);
+        });
+
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(result.getFailures().get(0).getMessage(), containsString("reset"));
+        assertThat(created.get(), is(2));
+        assertThat(closed.get(), is(2));
+      });
+
+      it("reports every value which can't be closed when the suite finishes", () -> {
+        final CountDownLatch bothInUse = new CountDownLatch(2);
+        final AtomicInteger created = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("a parallel suite", with(parallel(2), () -> {
+            final Supplier<AutoCloseable> value = pooledLet(() -> {
+              final int number = created.incrementAndGet();
+
+              return () -> {
+                throw new IllegalStateException("won't close " + number);
+              };
+            }, used -> Thread.yield(), 2);
+            IntStream.range(0, 2).forEach(number ->
+                it("spec " + number, () -> {
+                  value.get();
+                  bothInUse.countDown();
+                  bothInUse.await();
+                }));
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        final Throwable closeFailed = result.getFailures().get(0).getException();
+        assertThat(closeFailed.getMessage(), startsWith("won't close"));
+        assertThat(closeFailed.getSuppressed().length, is(1));
+      });
+
+      it("needs a pool of at least one value", () -> {
+        try {
+          pooledLet(Object::new, used -> {
+          }, 0);
+          fail("expected the pool size to be rejected");
+        } catch (final IllegalArgumentException expected) {
+          assertThat(expected.getMessage(), containsString("at least 1"));
+        }
+      });
+
+    });
+  }
+}
@@ -0,0 +1,170 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.repeat;
+import static com.greghaskins.spectrum.Configure.soak;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.let;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assume.assumeTrue;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class RepeatSpecs {
+  {
+    describe("A repeated spec", () -> {
+
+      final PrintStream originalOutput = System.out;
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      beforeEach(() -> {
+        output.reset();
+        System.setOut(new PrintStream(output, true));
+      });
+      afterEach(() -> System.setOut(originalOutput));
+      afterEach(() -> System.clearProperty(Configure.ASYNC_CLOSE_PROPERTY));
+
+      it("runs with all of its hooks each time, as one test", () -> {
+        final AtomicInteger hooks = new AtomicInteger();
+        final Set<Object> values = ConcurrentHashMap.newKeySet();
+        final Result result = SpectrumHelper.run(() -> {
+          beforeEach(hooks::incrementAndGet);
+          final Supplier<Object> value = let(Object::new);
+          it("is repeated", with(repeat(20), () -> values.add(value.get())));
+        });
+
+        assertThat(result.getRunCount(), is(1));
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(hooks.get(), is(20));
+        assertThat(values, hasSize(20));
+      });
+
+      it("fails once, with the first failure, when any iteration fails", () -> {
+        final AtomicInteger iterations = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          it("fails sometimes", with(repeat(10), () -> {
+            if (iterations.incrementAndGet() % 4 == 0) {
+              throw new IllegalStateException("race lost at " + iterations.get());
+            }
+          }));
+        });
+
+        assertThat(iterations.get(), is(10));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getMessage(),
+            is("2 of 10 iterations failed, first at iteration 4: race lost at 4"));
+      });
+
+      it("writes the outcome and the distribution of durations to the test output", () -> {
+        SpectrumHelper.run(() -> {
+          it("is repeated", with(repeat(5), () -> {
+          }));
+        });
+
+        final String report = output.toString();
+        assertThat(report, startsWith("Repeated is repeated"));
+        assertThat(report, containsString("5 iterations, 0 failed"));
+        assertThat(report, containsString("p99"));
+      });
+
+      it("stops at the first iteration whose assumption fails, and reports it once", () -> {
+        final AtomicInteger iterations = new AtomicInteger();
+        final List<Failure> failures = new ArrayList<>();
+        final List<Failure> assumptionFailures = new ArrayList<>();
+        SpectrumHelper.runWithListener(() -> {
+          it("can't always run", with(repeat(10), () -> {
+            assumeTrue(iterations.incrementAndGet() < 3);
+          }));
+        }, new RunListener() {
+          @Override
+          public void testFailure(final Failure failure) {
+            failures.add(failure);
+          }
+
+          @Override
+          public void testAssumptionFailure(final Failure failure) {
+            assumptionFailures.add(failure);
+          }
+        });
+
+        assertThat(iterations.get(), is(3));
+        assertThat(failures, hasSize(0));
+        assertThat(assumptionFailures, hasSize(1));
+      });
+
+      it("fails when a value closed after the last iteration can't be closed", () -> {
+        System.setProperty(Configure.ASYNC_CLOSE_PROPERTY, "true");
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<AutoCloseable> value = let(() -> () -> {
+            Thread.sleep(100);
+            throw new IllegalStateException("won't close");
+          });
+          it("uses the value", with(repeat(2), value::get));
+        });
+
+        assertThat(result.getFailureCount(), is(greaterThan(0)));
+        assertThat(result.getFailures().get(result.getFailureCount() - 1).getMessage(),
+            containsString("won't close"));
+      });
+
+      it("applies to every spec in a suite", () -> {
+        final AtomicInteger iterations = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("repeated specs", with(repeat(3), () -> {
+            it("first", iterations::incrementAndGet);
+            it("second", iterations::incrementAndGet);
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(iterations.get(), is(6));
+      });
+
+    });
+
+    describe("A soaked spec", () -> {
+
+      it("runs over and over until the time is up", () -> {
+        final AtomicInteger iterations = new AtomicInteger();
+        final long started = System.nanoTime();
+        final Result result = SpectrumHelper.run(() -> {
+          it("is soaked", with(soak(Duration.ofMillis(50)), () -> {
+            iterations.incrementAndGet();
+            Thread.sleep(1);
+          }));
+        });
+
+        assertThat(result.getRunCount(), is(1));
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(iterations.get(), is(greaterThan(1)));
+        assertThat(System.nanoTime() - started, is(greaterThan(Duration.ofMillis(50).toNanos())));
+      });
+
+    });
+  }
+}
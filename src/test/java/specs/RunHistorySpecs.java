@@ -0,0 +1,166 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.given;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.scenario;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.then;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.fail;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.Variable;
+
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(Spectrum.class)
+public class RunHistorySpecs {
+  private static final List<String> events = new ArrayList<>();
+  private static boolean lastSpecFails;
+
+  {
+    describe("The run history", () -> {
+
+      final Variable<File> history = new Variable<>();
+
+      beforeEach(() -> {
+        final File file = File.createTempFile("history", ".txt");
+        file.delete();
+        history.set(file);
+      });
+
+      afterEach(() -> {
+        System.clearProperty(Configure.HISTORY_PROPERTY);
+        System.clearProperty(Configure.ORDER_PROPERTY);
+        history.get().delete();
+        new File(history.get().getPath() + ".lock").delete();
+        events.clear();
+      });
+
+      it("is written at the end of the run", () -> {
+        System.setProperty(Configure.HISTORY_PROPERTY, history.get().getAbsolutePath());
+        SpectrumHelper.run(SpecWithTwoSuites.class);
+
+        final List<String> lines = Files.readAllLines(history.get().toPath(),
+            StandardCharsets.UTF_8);
+        assertThat(lines.get(0), startsWith("spectrum-history 1"));
+        assertThat(lines, hasItem(containsString(
+            "\t0\t" + SpecWithTwoSuites.class.getName() + " / second suite / third spec")));
+      });
+
+      it("keeps what another test JVM wrote to it in the meantime", () -> {
+        System.setProperty(Configure.HISTORY_PROPERTY, history.get().getAbsolutePath());
+        SpectrumHelper.run(SpecWithTwoSuites.class);
+        Files.write(history.get().toPath(), Arrays.asList("spectrum-history 1",
+            "5\t1\tOtherSpecs / spec run by another JVM"), StandardCharsets.UTF_8);
+
+        SpectrumHelper.run(SpecWithTwoSuites.class);
+
+        final List<String> lines = Files.readAllLines(history.get().toPath(),
+            StandardCharsets.UTF_8);
+        assertThat(lines.get(0), is("spectrum-history 1"));
+        assertThat(lines, hasItem("5\t1\tOtherSpecs / spec run by another JVM"));
+        assertThat(lines, hasItem(containsString(
+            "\t0\t" + SpecWithTwoSuites.class.getName() + " / second suite / third spec")));
+      });
+
+      it("can run the specs which failed most recently first", () -> {
+        System.setProperty(Configure.HISTORY_PROPERTY, history.get().getAbsolutePath());
+        lastSpecFails = true;
+        SpectrumHelper.run(SpecWithTwoSuites.class);
+        lastSpecFails = false;
+        events.clear();
+
+        System.setProperty(Configure.ORDER_PROPERTY, "failing-first");
+        SpectrumHelper.run(SpecWithTwoSuites.class);
+
+        assertThat(events, contains("third spec", "second spec", "first spec"));
+      });
+
+      it("can run the slowest specs first", () -> {
+        final String suite = SpecWithTwoSuites.class.getName() + " / first suite / ";
+        final String otherSuite = SpecWithTwoSuites.class.getName() + " / second suite / ";
+        Files.write(history.get().toPath(), Arrays.asList("spectrum-history 3",
+            "2000\t0\t" + suite + "first spec",
+            "700\t0\t" + suite + "second spec",
+            "1000\t0\t" + otherSuite + "third spec"), StandardCharsets.UTF_8);
+        System.setProperty(Configure.HISTORY_PROPERTY, history.get().getAbsolutePath());
+        System.setProperty(Configure.ORDER_PROPERTY, "longest-first");
+
+        SpectrumHelper.run(SpecWithTwoSuites.class);
+
+        assertThat(events, contains("first spec", "third spec", "second spec"));
+      });
+
+      it("keeps the steps of a scenario in order", () -> {
+        final String scenario = SpecWithAScenario.class.getName() + " / Scenario: a scenario / ";
+        Files.write(history.get().toPath(), Arrays.asList("spectrum-history 1",
+            "1\t1\t" + scenario + "Given a first step",
+            "9\t1\t" + scenario + "Then a second step"), StandardCharsets.UTF_8);
+        System.setProperty(Configure.HISTORY_PROPERTY, history.get().getAbsolutePath());
+        System.setProperty(Configure.ORDER_PROPERTY, "longest-first");
+
+        SpectrumHelper.run(SpecWithAScenario.class);
+
+        assertThat(events, contains("given", "then"));
+      });
+
+      it("rejects orders it doesn't know", () -> {
+        System.setProperty(Configure.HISTORY_PROPERTY, history.get().getAbsolutePath());
+        System.setProperty(Configure.ORDER_PROPERTY, "random");
+        try {
+          new Spectrum(SpecWithTwoSuites.class);
+          fail("expected the order to be rejected");
+        } catch (final IllegalArgumentException expected) {
+          assertThat(expected.getMessage(), containsString(Configure.ORDER_PROPERTY));
+        }
+      });
+
+    });
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class SpecWithTwoSuites {
+    {
+      describe("first suite", () -> {
+        it("first spec", () -> events.add("first spec"));
+      });
+
+      describe("second suite", () -> {
+        it("second spec", () -> events.add("second spec"));
+        it("third spec", () -> {
+          events.add("third spec");
+          if (lastSpecFails) {
+            throw new AssertionError("failing this time");
+          }
+        });
+      });
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class SpecWithAScenario {
+    {
+      scenario("a scenario", () -> {
+        given("a first step", () -> events.add("given"));
+        then("a second step", () -> events.add("then"));
+      });
+    }
+  }
+}
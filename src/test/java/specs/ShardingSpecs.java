@@ -0,0 +1,185 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.given;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.scenario;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.then;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.when;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.fail;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@RunWith(Spectrum.class)
+public class ShardingSpecs {
+  private static final List<String> events = new ArrayList<>();
+
+  {
+    describe("Sharding", () -> {
+
+      afterEach(() -> {
+        System.clearProperty(Configure.SHARD_INDEX_PROPERTY);
+        System.clearProperty(Configure.SHARD_COUNT_PROPERTY);
+        System.clearProperty(Configure.SHARD_MODE_PROPERTY);
+        System.clearProperty(Configure.HISTORY_PROPERTY);
+        events.clear();
+      });
+
+      it("runs every spec in exactly one shard", () -> {
+        final List<String> ran = runEachShard(3, ManySpecs.class).stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+
+        assertThat(ran, containsInAnyOrder(ManySpecs.ALL.toArray()));
+      });
+
+      it("only reports the specs in the shard", () -> {
+        System.setProperty(Configure.SHARD_COUNT_PROPERTY, "3");
+        final int inShards = IntStream.range(0, 3).map(index -> {
+          System.setProperty(Configure.SHARD_INDEX_PROPERTY, String.valueOf(index));
+          final Result result = run(ManySpecs.class);
+          assertThat(result.getIgnoreCount(), is(0));
+
+          return result.getRunCount();
+        }).sum();
+
+        assertThat(inShards, is(ManySpecs.ALL.size()));
+      });
+
+      it("never splits a scenario", () -> {
+        runEachShard(4, ManyScenarios.class).forEach(shard -> shard.forEach(step -> {
+          final String scenario = step.substring(0, 1);
+          assertThat(shard, hasItems(scenario + " given", scenario + " when", scenario + " then"));
+        }));
+      });
+
+      it("doesn't run the hooks of suites with nothing in the shard", () -> {
+        final List<List<String>> shards = runEachShard(2, TwoSuites.class);
+
+        shards.forEach(shard -> {
+          if (!shard.contains("first spec")) {
+            assertThat(shard, not(hasItem("first beforeAll")));
+          }
+        });
+      });
+
+      it("can balance the durations recorded in the history", () -> {
+        final File history = File.createTempFile("history", ".txt");
+        try {
+          final String suite = ManySpecs.class.getName() + " / ";
+          Files.write(history.toPath(), Arrays.asList("spectrum-history 1",
+              "10\t0\t" + suite + "spec 0", "9\t0\t" + suite + "spec 1",
+              "8\t0\t" + suite + "spec 2", "1\t0\t" + suite + "spec 3",
+              "1\t0\t" + suite + "spec 4", "1\t0\t" + suite + "spec 5",
+              "1\t0\t" + suite + "spec 6", "1\t0\t" + suite + "spec 7"),
+              StandardCharsets.UTF_8);
+          System.setProperty(Configure.HISTORY_PROPERTY, history.getAbsolutePath());
+          System.setProperty(Configure.SHARD_MODE_PROPERTY, "duration");
+
+          final List<List<String>> shards = runEachShard(2, ManySpecs.class);
+
+          final List<String> withTheLongest = shards.stream()
+              .filter(shard -> shard.contains("spec 0")).findFirst().get();
+          assertThat(withTheLongest,
+              containsInAnyOrder("spec 0", "spec 3", "spec 4", "spec 5", "spec 6", "spec 7"));
+        } finally {
+          history.delete();
+          new File(history.getPath() + ".lock").delete();
+        }
+      });
+
+      it("rejects an index outside the shards", () -> {
+        System.setProperty(Configure.SHARD_COUNT_PROPERTY, "2");
+        System.setProperty(Configure.SHARD_INDEX_PROPERTY, "2");
+        try {
+          new Spectrum(ManySpecs.class);
+          fail("expected the index to be rejected");
+        } catch (final IllegalArgumentException expected) {
+          assertThat(expected.getMessage(), containsString(Configure.SHARD_INDEX_PROPERTY));
+        }
+      });
+
+    });
+  }
+
+  private static List<List<String>> runEachShard(final int count, final Class<?> specClass) {
+    System.setProperty(Configure.SHARD_COUNT_PROPERTY, String.valueOf(count));
+
+    return IntStream.range(0, count).mapToObj(index -> {
+      System.setProperty(Configure.SHARD_INDEX_PROPERTY, String.valueOf(index));
+      events.clear();
+      run(specClass);
+
+      return new ArrayList<>(events);
+    }).collect(Collectors.toList());
+  }
+
+  private static Result run(final Class<?> specClass) {
+    try {
+      return SpectrumHelper.run(specClass);
+    } catch (final Exception exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class ManySpecs {
+    static final List<String> ALL = IntStream.range(0, 8).mapToObj(number -> "spec " + number)
+        .collect(Collectors.toList());
+
+    {
+      ALL.forEach(name -> it(name, () -> events.add(name)));
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class ManyScenarios {
+    {
+      Arrays.asList("a", "b", "c", "d", "e", "f").forEach(name ->
+          scenario(name, () -> {
+            given("a step", () -> events.add(name + " given"));
+            when("a step", () -> events.add(name + " when"));
+            then("a step", () -> events.add(name + " then"));
+          }));
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class TwoSuites {
+    {
+      describe("first suite", () -> {
+        beforeAll(() -> events.add("first beforeAll"));
+        it("first spec", () -> events.add("first spec"));
+      });
+
+      describe("second suite", () -> {
+        it("second spec", () -> events.add("second spec"));
+        it("third spec", () -> events.add("third spec"));
+        it("fourth spec", () -> events.add("fourth spec"));
+      });
+    }
+  }
+}
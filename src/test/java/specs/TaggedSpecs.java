@@ -4,6 +4,7 @@ import static com.greghaskins.spectrum.Configure.excludeTags;
 import static com.greghaskins.spectrum.Configure.filterRun;
 import static com.greghaskins.spectrum.Configure.ignore;
 import static com.greghaskins.spectrum.Configure.includeTags;
+import static com.greghaskins.spectrum.Configure.matchTags;
 import static com.greghaskins.spectrum.Configure.tags;
 import static com.greghaskins.spectrum.Configure.with;
 import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
@@ -13,6 +14,7 @@ import static com.greghaskins.spectrum.dsl.specification.Specification.let;
 import static junit.framework.TestCase.assertTrue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
@@ -183,6 +185,90 @@ public class TaggedSpecs {
 
       });
 
+      describe("with a tag expression", () -> {
+
+        Supplier<Result> result = let(() -> SpectrumHelper.run(() -> {
+
+          filterRun(matchTags("(fast | unit) & !flaky"));
+
+          it("should not run untagged specs", () -> {
+            Assert.fail();
+          });
+          it("should run spec with one of the alternatives, fast", with(tags("fast"), () -> {
+          }));
+          it("should run spec with one of the alternatives, unit", with(tags("unit"), () -> {
+          }));
+          it("should not run spec with the negated tag", with(tags("unit", "flaky"), () -> {
+            Assert.fail();
+          }));
+
+        }));
+
+        it("should run only the specs which match", () -> {
+          assertThat(result.get().getFailureCount(), is(0));
+          assertThat(result.get().getRunCount(), is(2));
+        });
+
+        it("can be set by system property", () -> {
+          System.setProperty(Configure.TAGS_PROPERTY, "!someTag");
+          final Result excluded = SpectrumHelper.run(getSuiteWithTagsOnly());
+          assertThat(excluded.getIgnoreCount(), is(1));
+        });
+
+        it("rejects an expression it can't parse", () -> {
+          final Result rejected = SpectrumHelper.run(() -> {
+            filterRun(matchTags("fast & (unit"));
+            it("is not reached", () -> {
+            });
+          });
+          assertThat(rejected.getFailures().get(0).getMessage(), containsString("expected ')'"));
+        });
+
+      });
+
+      describe("when pruning ignored suites", () -> {
+
+        beforeEach(() -> System.setProperty(Configure.PRUNE_IGNORED_PROPERTY, "true"));
+
+        it("never runs the declaration block of an excluded suite", () -> {
+          final ArrayList<String> declared = new ArrayList<>();
+          final Result result = SpectrumHelper.run(() -> {
+            filterRun(excludeTags("slow"));
+            describe("an excluded suite", with(tags("slow"), () -> {
+              declared.add("excluded suite");
+              it("is never declared", () -> {
+              });
+              it("nor is this", () -> {
+              });
+            }));
+            describe("an included suite", () -> {
+              declared.add("included suite");
+              it("runs", () -> {
+              });
+            });
+          });
+
+          assertThat(declared, contains("included suite"));
+          assertThat(result.getRunCount(), is(1));
+          assertThat(result.getIgnoreCount(), is(1));
+        });
+
+        it("never runs the declaration block of an ignored suite", () -> {
+          final ArrayList<String> declared = new ArrayList<>();
+          final Result result = SpectrumHelper.run(() -> {
+            describe("an ignored suite", with(ignore(), () -> {
+              declared.add("ignored suite");
+            }));
+            it("runs", () -> {
+            });
+          });
+
+          assertThat(declared, hasSize(0));
+          assertThat(result.getIgnoreCount(), is(1));
+        });
+
+      });
+
       describe("configured by system property", () -> {
 
         it("runs completely when its tag is in the includes list", () -> {
@@ -348,6 +434,8 @@ public class TaggedSpecs {
   private static void clearSystemProperties() {
     System.setProperty(Configure.INCLUDE_TAGS_PROPERTY, "");
     System.setProperty(Configure.EXCLUDE_TAGS_PROPERTY, "");
+    System.clearProperty(Configure.TAGS_PROPERTY);
+    System.clearProperty(Configure.PRUNE_IGNORED_PROPERTY);
   }
 
 }
@@ -1,19 +1,27 @@
 package specs;
 
+import static com.greghaskins.spectrum.Configure.deadline;
 import static com.greghaskins.spectrum.Configure.timeout;
 import static com.greghaskins.spectrum.Configure.with;
 import static com.greghaskins.spectrum.Spectrum.*;
 import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofMinutes;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 
+import com.greghaskins.spectrum.Configure;
 import com.greghaskins.spectrum.Spectrum;
 import com.greghaskins.spectrum.SpectrumHelper;
 
 import org.junit.runner.Result;
 import org.junit.runner.RunWith;
+import org.junit.runners.model.TestTimedOutException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 @RunWith(Spectrum.class)
@@ -108,5 +116,135 @@ public class TimeoutSpecs {
         assertThat(result.getFailureCount(), is(0));
       });
     });
+
+    describe("A suite with a deadline", () -> {
+      it("passes when everything finishes in time", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with generous deadline", with(deadline(ofMinutes(1)), () -> {
+            it("takes a tiny bit", () -> Thread.sleep(1));
+            it("takes another tiny bit", () -> Thread.sleep(1));
+          }));
+        });
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("stops the running spec and fails the rest without running them", () -> {
+        final List<String> ran = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with deadline", with(deadline(ofMillis(200)), () -> {
+            it("is quick", () -> ran.add("quick"));
+            it("oversleeps", () -> {
+              ran.add("oversleeps");
+              Thread.sleep(5000);
+            });
+            it("never runs", () -> ran.add("never runs"));
+            describe("nested suite", () -> {
+              it("never runs either", () -> ran.add("never runs either"));
+            });
+          }));
+        });
+        assertThat(ran, contains("quick", "oversleeps"));
+        assertThat(result.getRunCount(), is(4));
+        assertThat(result.getFailureCount(), is(3));
+        result.getFailures().forEach(failure -> assertThat(failure.getException(),
+            instanceOf(TestTimedOutException.class)));
+      });
+
+      it("shares its budget with nested suites", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with deadline", with(deadline(ofMillis(300)), () -> {
+            describe("first nested suite", () -> {
+              it("uses most of the budget", () -> Thread.sleep(200));
+            });
+            describe("second nested suite", () -> {
+              it("runs out of time", () -> Thread.sleep(5000));
+            });
+          }));
+        });
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(),
+            is("runs out of time"));
+      });
+
+      it("includes the time taken by beforeAll", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with deadline", with(deadline(ofMillis(100)), () -> {
+            beforeAll(() -> Thread.sleep(5000));
+            it("doesn't get to run", () -> {
+            });
+          }));
+        });
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getException(),
+            instanceOf(TestTimedOutException.class));
+      });
+
+      it("stops an afterAll which runs past it", () -> {
+        final long start = System.currentTimeMillis();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with deadline", with(deadline(ofMillis(200)), () -> {
+            afterAll(() -> Thread.sleep(5000));
+            it("is quick", () -> {
+            });
+          }));
+        });
+        assertThat(System.currentTimeMillis() - start, is(lessThan(2000L)));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getDisplayName(),
+            is("Suite with deadline"));
+        assertThat(result.getFailures().get(0).getException(),
+            instanceOf(TestTimedOutException.class));
+      });
+    });
+
+    describe("Timeouts watched by the shared watchdog", () -> {
+      beforeEach(() -> System.setProperty(Configure.TIMEOUT_WATCHDOG_PROPERTY, "true"));
+      afterEach(() -> System.clearProperty(Configure.TIMEOUT_WATCHDOG_PROPERTY));
+
+      it("will fail a test that exceeds its timeout and pass the others", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with timeout", with(timeout(ofMillis(10)), () -> {
+            it("has spec that takes no time", () -> {
+
+            });
+
+            it("has spec that oversleeps and fails", () -> {
+              Thread.sleep(1000);
+            });
+          }));
+        });
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getException(),
+            instanceOf(TestTimedOutException.class));
+      });
+
+      it("runs the test on the calling thread", () -> {
+        final List<Thread> threads = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with timeout", with(timeout(ofMinutes(1)), () -> {
+            beforeEach(() -> threads.add(Thread.currentThread()));
+            it("records its thread", () -> threads.add(Thread.currentThread()));
+          }));
+        });
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(threads.get(1), is(threads.get(0)));
+      });
+
+      it("doesn't leave the thread interrupted after a timeout", () -> {
+        final List<Boolean> interrupted = new ArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Suite with timeout", with(timeout(ofMillis(10)), () -> {
+            afterEach(() -> interrupted.add(Thread.currentThread().isInterrupted()));
+            it("oversleeps and fails", () -> {
+              Thread.sleep(1000);
+            });
+          }));
+        });
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(interrupted, contains(false));
+      });
+    });
   }
 }
@@ -0,0 +1,142 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.aroundEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.let;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.Variable;
+
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@RunWith(Spectrum.class)
+public class TimingReportSpecs {
+  {
+    describe("The timing report", () -> {
+
+      final Variable<File> report = new Variable<>();
+
+      beforeEach(() -> {
+        report.set(File.createTempFile("timings", ".json"));
+        System.setProperty(Configure.TIMING_REPORT_PROPERTY, report.get().getAbsolutePath());
+      });
+      afterEach(() -> {
+        System.clearProperty(Configure.TIMING_REPORT_PROPERTY);
+        report.get().delete();
+      });
+
+      it("is written at the end of the run", () -> {
+        SpectrumHelper.run(() -> {
+          describe("a suite", () -> {
+            it("is timed", () -> {
+            });
+          });
+        });
+
+        final String json = read(report.get());
+        assertThat(json, containsString(" / a suite\","));
+        assertThat(json, containsString("{\"kind\": \"spec\", \"count\": 1"));
+      });
+
+      it("attributes each hook to the suite which declared it", () -> {
+        SpectrumHelper.run(() -> {
+          describe("outer", () -> {
+            beforeEach(() -> {
+            });
+            final Supplier<String> value = let(() -> "value");
+
+            describe("inner", () -> {
+              beforeAll(() -> {
+              });
+              it("uses the value", value::get);
+              it("uses the value again", value::get);
+            });
+          });
+        });
+
+        final String json = read(report.get());
+        assertThat(timing(json, "outer", "beforeEach", "count"), is(2L));
+        assertThat(timing(json, "outer", "let", "count"), is(2L));
+        assertThat(timing(json, "outer / inner", "beforeAll", "count"), is(1L));
+        assertThat(timing(json, "outer / inner", "spec", "count"), is(2L));
+      });
+
+      it("keeps suites with the same name in different places apart", () -> {
+        SpectrumHelper.run(() -> {
+          describe("a list", () -> {
+            describe("when empty", () -> {
+              beforeEach(() -> {
+              });
+              it("has no items", () -> {
+              });
+            });
+          });
+          describe("a map", () -> {
+            describe("when empty", () -> {
+              it("has no keys", () -> {
+              });
+              it("has no values", () -> {
+              });
+            });
+          });
+        });
+
+        final String json = read(report.get());
+        assertThat(timing(json, "a list / when empty", "spec", "count"), is(1L));
+        assertThat(timing(json, "a list / when empty", "beforeEach", "count"), is(1L));
+        assertThat(timing(json, "a map / when empty", "spec", "count"), is(2L));
+      });
+
+      it("measures hooks which run around a spec without the spec itself", () -> {
+        SpectrumHelper.run(() -> {
+          describe("slow suite", () -> {
+            aroundEach(block -> {
+              Thread.sleep(20);
+              block.run();
+            });
+            it("is slower than its hook", () -> Thread.sleep(200));
+          });
+        });
+
+        final String json = read(report.get());
+        final long hook = timing(json, "slow suite", "aroundEach", "max");
+        assertThat(hook, greaterThan(20_000_000L));
+        assertThat(hook, lessThan(200_000_000L));
+        assertThat(timing(json, "slow suite", "spec", "max"), greaterThan(220_000_000L));
+      });
+
+    });
+  }
+
+  private static String read(final File file) throws Exception {
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  private static long timing(final String json, final String suite, final String kind,
+      final String statistic) {
+    final Matcher matcher = Pattern.compile("\"suite\": \"[^\"]* / " + suite
+        + "\",\\s*\"timings\": \\[[^\\]]*?\"kind\": \"" + kind + "\"[^}]*\"" + statistic
+        + "\": (\\d+)").matcher(json);
+    assertThat("found " + kind + " in " + suite, matcher.find(), is(true));
+
+    return Long.parseLong(matcher.group(1));
+  }
+}
@@ -8,11 +8,23 @@ import static junit.framework.TestCase.assertNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import com.greghaskins.spectrum.AtomicBooleanVariable;
+import com.greghaskins.spectrum.AtomicDoubleVariable;
+import com.greghaskins.spectrum.AtomicIntVariable;
+import com.greghaskins.spectrum.AtomicLongVariable;
+import com.greghaskins.spectrum.BooleanVariable;
+import com.greghaskins.spectrum.DoubleVariable;
+import com.greghaskins.spectrum.IntVariable;
+import com.greghaskins.spectrum.LongVariable;
 import com.greghaskins.spectrum.Spectrum;
 import com.greghaskins.spectrum.Variable;
 
 import org.junit.runner.RunWith;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 @RunWith(Spectrum.class)
 public class VariableSpecs {
   {
@@ -61,5 +73,73 @@ public class VariableSpecs {
 
     });
 
+    describe("The primitive Variable types", () -> {
+
+      final IntVariable counter = new IntVariable();
+
+      beforeEach(counter::increment);
+
+      it("hold a value without boxing it", () -> {
+        assertThat(counter.getAsInt(), is(1));
+      });
+
+      it("can share values across scopes too", () -> {
+        assertThat(counter.getAsInt(), is(2));
+      });
+
+      it("start at zero or false, or can have an initial value set", () -> {
+        assertThat(new LongVariable().getAsLong(), is(0L));
+        assertThat(new DoubleVariable(1.5).getAsDouble(), is(1.5));
+        assertThat(new BooleanVariable().getAsBoolean(), is(false));
+        assertThat(new BooleanVariable(true).getAsBoolean(), is(true));
+      });
+
+      it("can be added to", () -> {
+        final LongVariable total = new LongVariable(10);
+        assertThat(total.add(5), is(15L));
+        final DoubleVariable sum = new DoubleVariable();
+        sum.add(0.5);
+        assertThat(sum.add(0.25), is(0.75));
+      });
+
+    });
+
+    describe("The atomic Variable types", () -> {
+
+      it("count every update made by many threads at once", () -> {
+        final AtomicIntVariable ints = new AtomicIntVariable();
+        final AtomicLongVariable longs = new AtomicLongVariable();
+        final AtomicDoubleVariable doubles = new AtomicDoubleVariable();
+        final List<Thread> workers = IntStream.range(0, 4)
+            .mapToObj(number -> new Thread(() -> IntStream.range(0, 1000).forEach(update -> {
+              ints.increment();
+              longs.add(2);
+              doubles.add(0.5);
+            })))
+            .collect(Collectors.toList());
+        workers.forEach(Thread::start);
+        for (final Thread worker : workers) {
+          worker.join();
+        }
+
+        assertThat(ints.getAsInt(), is(4000));
+        assertThat(longs.getAsLong(), is(8000L));
+        assertThat(doubles.getAsDouble(), is(2000.0));
+      });
+
+      it("change the value only if it is still the one expected", () -> {
+        final AtomicBooleanVariable flag = new AtomicBooleanVariable();
+        assertThat(flag.compareAndSet(false, true), is(true));
+        assertThat(flag.compareAndSet(false, true), is(false));
+        assertThat(flag.getAsBoolean(), is(true));
+
+        final AtomicDoubleVariable measurement = new AtomicDoubleVariable(1.5);
+        assertThat(measurement.compareAndSet(2.0, 3.0), is(false));
+        assertThat(measurement.compareAndSet(1.5, 3.0), is(true));
+        assertThat(measurement.getAsDouble(), is(3.0));
+      });
+
+    });
+
   }
 }